@@ -8,6 +8,10 @@ import static com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AUt
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.DatagramPacket;
+import java.net.SocketTimeoutException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -20,8 +24,19 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Properties;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -42,10 +57,16 @@ import com.avispl.symphony.api.dal.error.CommandFailureException;
 import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
 import com.avispl.symphony.api.dal.monitor.Monitorable;
 import com.avispl.symphony.dal.communicator.UDPCommunicator;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.cache.CapabilityCache;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.cache.DeviceInfoCache;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.cache.GroupResultCache;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.dto.PanTiltPosition;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.Index;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.PollingGroup;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.ReplyStatus;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.devices.ResponseParser;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.devices.ResponseValidator;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.ControlPayload;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.PayloadCategory;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.PayloadType;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.Prefix;
@@ -76,6 +97,25 @@ import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.W
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.WDROptions;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.ZoomControl;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.ZoomPosition;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling.AdaptivePollScheduler;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling.MotionBurst;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling.PollPlanner;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling.PresetMoveTracker;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.power.PowerState;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.power.PowerStateMachine;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.snapshot.SnapshotStore;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.snapshot.StatisticsPublisher;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.CircuitBreaker;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.CircuitOpenException;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.CommandBufferFullException;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.CommandPipeline;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.DeviceEventLoop;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.ErrorNotificationException;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.InFlightRequests;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.MovementTracker;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.PacketChannel;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.RttEstimator;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.SequenceGenerator;
 import com.avispl.symphony.dal.util.StringUtils;
 
 /**
@@ -126,15 +166,32 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	private String tiltSpeed = "1";
 	private String zoomSpeed = "";
 	private String focusSpeed = "";
+	private String readTimeoutMin = "";
+	private String readTimeoutMax = "";
+	private String standbyPollingInterval = "";
+	private String snapshotDirectory = "";
+	private String backgroundPolling = "";
+	private String backgroundPollingInterval = "";
+	private String pollCycleBudget = "";
+	private String maxPropertyStaleness = "";
 	private Integer zoomSpeedInt = null;
 	private Integer focusSpeedInt = null;
+	private Integer readTimeoutMinInt = null;
+	private Integer readTimeoutMaxInt = null;
+	private Integer standbyPollingIntervalInt = null;
+	private Integer backgroundPollingIntervalInt = null;
+	private Integer pollCycleBudgetInt = null;
+	private Integer maxPropertyStalenessInt = null;
 	private int cameraIDInt = 1;
 	private int panSpeedInt = 1;
 	private int tiltSpeedInt = 1;
-	private int sequenceNumber = 1;
 	private int currentPreset = -1;
-	private long nextMonitoringCycleTimestamp = System.currentTimeMillis();
-	private String powerStatusMessage = null;
+
+	/**
+	 * Read timeout configured for the adapter, upper bound of the RTO. The socket timeout itself is set to
+	 * {@link LumenVCTR60AConstants#READ_TIMEOUT_TICK} on init, so it must never be read back as the configured timeout.
+	 */
+	private int configuredTimeout = getTimeout();
 
 	/** Adapter metadata properties - adapter version and build date */
 	private Properties adapterProperties;
@@ -144,20 +201,26 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	 */
 	public LumenVCTR60ACommunicator() throws IOException {
 		super();
-		this.setCommandSuccessList(Collections.singletonList(getHexByteString(ReplyStatus.COMPLETION.getCode())));
-		adapterProperties = new Properties();
-		adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
-		this.setCommandErrorList(Arrays.asList(
-				getHexByteString(ReplyStatus.SYNTAX_ERROR_CONTROL.getCode()),
+		// A command may run on any of the sockets of the camera, e.g. while a movement keeps the first one busy
+		List<String> successList = new ArrayList<>();
+		List<String> errorList = new ArrayList<>(Arrays.asList(
 				getHexByteString(ReplyStatus.SYNTAX_ERROR_INQUIRY.getCode()),
 				getHexByteString(ReplyStatus.SYNTAX_ERROR_CODE.getCode()),
-				getHexByteString(ReplyStatus.COMMAND_BUFFER_FULL_CONTROL.getCode()),
 				getHexByteString(ReplyStatus.COMMAND_BUFFER_FULL_INQUIRY.getCode()),
-				getHexByteString(ReplyStatus.NO_SOCKET_CONTROL.getCode()),
 				getHexByteString(ReplyStatus.NO_SOCKET_INQUIRY.getCode()),
-				getHexByteString(ReplyStatus.COMMAND_NOT_EXECUTABLE_CONTROL.getCode()),
 				getHexByteString(ReplyStatus.COMMAND_NOT_EXECUTABLE_INQUIRY.getCode())
 		));
+		for (int socket = 1; socket <= LumenVCTR60AConstants.COMMAND_SOCKETS; socket++) {
+			successList.add(getHexByteString(ReplyStatus.COMPLETION.getCode(socket)));
+			errorList.add(getHexByteString(ReplyStatus.SYNTAX_ERROR_CONTROL.getCode(socket)));
+			errorList.add(getHexByteString(ReplyStatus.COMMAND_BUFFER_FULL_CONTROL.getCode(socket)));
+			errorList.add(getHexByteString(ReplyStatus.NO_SOCKET_CONTROL.getCode(socket)));
+			errorList.add(getHexByteString(ReplyStatus.COMMAND_NOT_EXECUTABLE_CONTROL.getCode(socket)));
+		}
+		this.setCommandSuccessList(successList);
+		adapterProperties = new Properties();
+		adapterProperties.load(getClass().getResourceAsStream("/version.properties"));
+		this.setCommandErrorList(errorList);
 	}
 
 	/**
@@ -166,11 +229,208 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	private final ReentrantLock reentrantLock = new ReentrantLock();
 
 	/**
-	 * Store previous/current ExtendedStatistics
+	 * Publishes the previous/current ExtendedStatistics as immutable snapshots
+	 */
+	private final StatisticsPublisher localExtendedStatistics = new StatisticsPublisher();
+
+	/**
+	 * Owns every request/reply exchange on the device socket, controls are run before inquiries
+	 */
+	private final DeviceEventLoop eventLoop = new DeviceEventLoop("LumenVCTR60A event loop");
+
+	/**
+	 * Stops polling the device after consecutive timeouts, until a liveness probe is answered
+	 */
+	private final CircuitBreaker circuitBreaker = new CircuitBreaker(LumenVCTR60AConstants.CIRCUIT_BREAKER_THRESHOLD);
+
+	/**
+	 * Number of inquiries retransmitted after a lost request or reply
+	 */
+	private final AtomicInteger retransmissionCount = new AtomicInteger();
+
+	/**
+	 * Sequence numbers of the requests sent and not completed yet, used to recognize late replies and to retire their sequence numbers
+	 */
+	private final InFlightRequests inFlightRequests = new InFlightRequests(LumenVCTR60AConstants.IN_FLIGHT_REQUESTS_CAPACITY);
+
+	/**
+	 * Generates the sequence number of every request sent to the device
+	 */
+	private final SequenceGenerator sequenceGenerator = new SequenceGenerator(inFlightRequests);
+
+	/**
+	 * Number of replies discarded because they do not belong to the current request
+	 */
+	private final AtomicInteger staleReplyCount = new AtomicInteger();
+
+	/**
+	 * True when a previous exchange may have left replies in the socket: a read timed out, a reply was discarded or a cancel was not awaited.
+	 * The first cycle drains the socket once.
+	 */
+	private final AtomicBoolean staleRepliesExpected = new AtomicBoolean(true);
+
+	/**
+	 * Power state of the camera, controls and polling are held while it is turning on or off
+	 */
+	private final PowerStateMachine powerStateMachine = new PowerStateMachine(LumenVCTR60AConstants.POWER_PROBE_INITIAL_DELAY,
+			LumenVCTR60AConstants.POWER_PROBE_MAX_DELAY, LumenVCTR60AConstants.POWER_TRANSITION_TIMEOUT);
+
+	/**
+	 * Statistics rendered when the camera was last found powered off, reused while it stays in standby
+	 */
+	private ExtendedStatistics standbySnapshot;
+
+	/**
+	 * Timestamp of the next power status poll while the camera is in standby
+	 */
+	private long nextStandbyPollTimestamp;
+
+	/**
+	 * Timestamp of the last cycle that fully polled the device, or of the snapshot loaded on warm start
+	 */
+	private volatile long lastPollTimestamp;
+
+	/**
+	 * General properties of the device, invalidated when the device reconnects
+	 */
+	private final DeviceInfoCache deviceInfoCache = new DeviceInfoCache(LumenVCTR60AConstants.DEVICE_INFO_TTL);
+
+	/**
+	 * Inquiries rejected as unsupported by the firmware of the device, skipped until the firmware changes
+	 */
+	private final CapabilityCache capabilityCache = new CapabilityCache();
+
+	/**
+	 * Last values collected successfully for each polling group, rendered when the group fails in a cycle
+	 */
+	private final GroupResultCache groupResultCache = new GroupResultCache();
+
+	/**
+	 * Orders the polling groups of a cycle and carries over the groups deferred when {@link #pollCycleBudget} runs out
+	 */
+	private final PollPlanner pollPlanner = new PollPlanner();
+
+	/**
+	 * Poll interval of each inquiry, slowed down while its value does not change, up to {@link #maxPropertyStaleness}
+	 */
+	private final AdaptivePollScheduler adaptivePollScheduler = new AdaptivePollScheduler(LumenVCTR60AConstants.ADAPTIVE_POLL_MIN_INTERVAL,
+			LumenVCTR60AConstants.DEFAULT_MAX_PROPERTY_STALENESS * 1000L);
+
+	/**
+	 * Runs the warm-start refresh and the snapshot writes
+	 */
+	private ExecutorService backgroundExecutor;
+
+	/**
+	 * Persists the last known state of the device, to be served right after a restart
+	 */
+	private SnapshotStore snapshotStore;
+
+	/**
+	 * First sweep after a warm start, null if the adapter started without snapshot
+	 */
+	private volatile Future<?> warmStartRefresh;
+
+	/**
+	 * Polls the device on its own schedule when {@link #backgroundPolling} is enabled, null otherwise
+	 */
+	private ScheduledExecutorService backgroundPoller;
+
+	/**
+	 * Paces the position reads following a move of the camera
+	 */
+	private final MotionBurst motionBurst = new MotionBurst(LumenVCTR60AConstants.MOTION_BURST_MIN_INTERVAL, LumenVCTR60AConstants.MOTION_BURST_MAX_INTERVAL,
+			LumenVCTR60AConstants.MOTION_BURST_MAX_DURATION);
+
+	/**
+	 * Arrival and travel times of the recalled presets, detected by {@link #motionBurst}
+	 */
+	private final PresetMoveTracker presetMoveTracker = new PresetMoveTracker();
+
+	/**
+	 * Schedules the position reads of {@link #motionBurst}, and the delayed requests of the {@link #eventLoop}:
+	 * pan/tilt drive STOP and re-sends after a command buffer full reply
+	 */
+	private ScheduledExecutorService motionBurstScheduler;
+
+	/**
+	 * STOP of the last pan/tilt drive, scheduled on {@link #motionBurstScheduler}
+	 */
+	private volatile ScheduledFuture<?> panTiltStop;
+
+	/**
+	 * Failure of the last background poll, null if it succeeded
+	 */
+	private volatile Exception backgroundPollFailure;
+
+	/**
+	 * Number of requests re-sent because the command buffer of the device was full
+	 */
+	private final AtomicInteger bufferFullRetryCount = new AtomicInteger();
+
+	/**
+	 * Number of error notifications received since the last RESET of the sequence number
+	 */
+	private final AtomicInteger sequenceMismatchCount = new AtomicInteger();
+
+	/**
+	 * Number of RESET of the sequence number sent to the device
+	 */
+	private final AtomicInteger sequenceResetCount = new AtomicInteger();
+
+	/**
+	 * True when the sequence number must be reset before the next cycle, e.g. after the device came back online
+	 */
+	private volatile boolean sequenceResetPending;
+
+	/**
+	 * Pipeline of the {@link #controlProperties(List)} batch in progress, null when not in batch mode.
+	 * Only used from the {@link #eventLoop} thread, which runs the whole batch.
+	 */
+	private CommandPipeline commandPipeline;
+
+	/**
+	 * Commands pipelined by the batched control in progress, completed with their COMPLETION; null when not in batch mode.
+	 * Only used from the {@link #eventLoop} thread, which runs the whole batch.
+	 */
+	private List<CompletableFuture<Void>> pipelinedCommands;
+
+	/**
+	 * Smoothed RTT and RTT variance of the device, used to compute the read timeout of each request
+	 */
+	private RttEstimator rttEstimator = new RttEstimator(LumenVCTR60AConstants.DEFAULT_READ_TIMEOUT_MIN, LumenVCTR60AConstants.DEFAULT_READ_TIMEOUT_MAX);
+
+	/**
+	 * Timestamp when the request of the current exchange was written
+	 */
+	private long exchangeStartTime;
+
+	/**
+	 * Movement commands in progress on the camera by command socket, cancelled when another movement supersedes them
+	 */
+	private final MovementTracker movementTracker = new MovementTracker();
+
+	/**
+	 * True while a read of the completions of the movements in progress is scheduled
+	 */
+	private final AtomicBoolean movementWatchScheduled = new AtomicBoolean();
+
+	/**
+	 * Name of the movement command the event loop is sending, null for other requests. Only accessed by the event loop thread.
 	 */
-	private ExtendedStatistics localExtendedStatistics;
+	private String sendingMovement;
 
-	private static final AtomicInteger seqCounter = new AtomicInteger(0);
+	/**
+	 * True while the event loop exchanges the power status probe of a power transition. The camera does not answer while it boots,
+	 * so the timeouts of this probe are neither counted by {@link #circuitBreaker} nor sampled by {@link #rttEstimator}.
+	 * Only accessed by the event loop thread.
+	 */
+	private boolean probingPowerTransition;
+
+	/**
+	 * Number of movements cancelled because another movement superseded them
+	 */
+	private final AtomicInteger cancelledMoveCount = new AtomicInteger();
 
 	/**
 	 * Device adapter instantiation timestamp.
@@ -273,6 +533,160 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		this.focusSpeed = focusSpeed.trim();
 	}
 
+	/**
+	 * Retrieves {@code {@link #readTimeoutMin}}
+	 *
+	 * @return value of {@link #readTimeoutMin}
+	 */
+	public String getReadTimeoutMin() {
+		return readTimeoutMin;
+	}
+
+	/**
+	 * Sets {@code readTimeoutMin}
+	 *
+	 * @param readTimeoutMin the {@code java.lang.String} field
+	 */
+	public void setReadTimeoutMin(String readTimeoutMin) {
+		this.readTimeoutMin = readTimeoutMin.trim();
+	}
+
+	/**
+	 * Retrieves {@code {@link #readTimeoutMax}}
+	 *
+	 * @return value of {@link #readTimeoutMax}
+	 */
+	public String getReadTimeoutMax() {
+		return readTimeoutMax;
+	}
+
+	/**
+	 * Sets {@code readTimeoutMax}
+	 *
+	 * @param readTimeoutMax the {@code java.lang.String} field
+	 */
+	public void setReadTimeoutMax(String readTimeoutMax) {
+		this.readTimeoutMax = readTimeoutMax.trim();
+	}
+
+	/**
+	 * Retrieves {@code {@link #standbyPollingInterval}}
+	 *
+	 * @return value of {@link #standbyPollingInterval}
+	 */
+	public String getStandbyPollingInterval() {
+		return standbyPollingInterval;
+	}
+
+	/**
+	 * Sets {@code standbyPollingInterval}
+	 *
+	 * @param standbyPollingInterval the {@code java.lang.String} field
+	 */
+	public void setStandbyPollingInterval(String standbyPollingInterval) {
+		this.standbyPollingInterval = standbyPollingInterval.trim();
+	}
+
+	/**
+	 * Retrieves {@code {@link #snapshotDirectory}}
+	 *
+	 * @return value of {@link #snapshotDirectory}
+	 */
+	public String getSnapshotDirectory() {
+		return snapshotDirectory;
+	}
+
+	/**
+	 * Sets {@code snapshotDirectory}
+	 *
+	 * @param snapshotDirectory the {@code java.lang.String} field
+	 */
+	public void setSnapshotDirectory(String snapshotDirectory) {
+		this.snapshotDirectory = snapshotDirectory.trim();
+	}
+
+	/**
+	 * Retrieves {@code {@link #backgroundPolling}}
+	 *
+	 * @return value of {@link #backgroundPolling}
+	 */
+	public String getBackgroundPolling() {
+		return backgroundPolling;
+	}
+
+	/**
+	 * Sets {@code backgroundPolling}
+	 *
+	 * @param backgroundPolling the {@code java.lang.String} field
+	 */
+	public void setBackgroundPolling(String backgroundPolling) {
+		this.backgroundPolling = backgroundPolling.trim();
+	}
+
+	/**
+	 * Retrieves {@code {@link #backgroundPollingInterval}}
+	 *
+	 * @return value of {@link #backgroundPollingInterval}
+	 */
+	public String getBackgroundPollingInterval() {
+		return backgroundPollingInterval;
+	}
+
+	/**
+	 * Sets {@code backgroundPollingInterval}
+	 *
+	 * @param backgroundPollingInterval the {@code java.lang.String} field
+	 */
+	public void setBackgroundPollingInterval(String backgroundPollingInterval) {
+		this.backgroundPollingInterval = backgroundPollingInterval.trim();
+	}
+
+	/**
+	 * Retrieves {@code {@link #pollCycleBudget}}
+	 *
+	 * @return value of {@link #pollCycleBudget}
+	 */
+	public String getPollCycleBudget() {
+		return pollCycleBudget;
+	}
+
+	/**
+	 * Sets {@code pollCycleBudget}
+	 *
+	 * @param pollCycleBudget the {@code java.lang.String} field
+	 */
+	public void setPollCycleBudget(String pollCycleBudget) {
+		this.pollCycleBudget = pollCycleBudget.trim();
+	}
+
+	/**
+	 * Retrieves {@code {@link #maxPropertyStaleness}}
+	 *
+	 * @return value of {@link #maxPropertyStaleness}
+	 */
+	public String getMaxPropertyStaleness() {
+		return maxPropertyStaleness;
+	}
+
+	/**
+	 * Sets {@code maxPropertyStaleness}
+	 *
+	 * @param maxPropertyStaleness the {@code java.lang.String} field
+	 */
+	public void setMaxPropertyStaleness(String maxPropertyStaleness) {
+		this.maxPropertyStaleness = maxPropertyStaleness.trim();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The configured timeout is kept in {@link #configuredTimeout}, since init replaces the socket timeout with a single tick
+	 */
+	@Override
+	public void setTimeout(int timeout) {
+		configuredTimeout = timeout;
+		super.setTimeout(timeout);
+	}
+
 	/**
 	 * {@inheritdoc}
 	 * This method is recalled by Symphony to control specific property
@@ -281,11 +695,12 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	 */
 	@Override
 	public void controlProperty(ControllableProperty controllableProperty) throws IOException {
-		if (System.currentTimeMillis() < nextMonitoringCycleTimestamp) {
-			throw new IllegalStateException("Cannot control while power is " + powerStatusMessage);
+		if (powerStateMachine.isTransitioning() && !probePowerTransition()) {
+			throw new IllegalStateException("Cannot control while power is " + powerStateMachine.getState().getName());
 		}
-		Map<String, String> stats = this.localExtendedStatistics.getStatistics();
-		List<AdvancedControllableProperty> advancedControllableProperties = this.localExtendedStatistics.getControllableProperties();
+		// Changes of this control, applied to a copy of the published statistics once the control is sent
+		Map<String, String> stats = new HashMap<>();
+		List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
 
 		String property = controllableProperty.getProperty();
 		String value = String.valueOf(controllableProperty.getValue());
@@ -301,14 +716,15 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		if(property.contains(LumenVCTR60AConstants.HASH)){
 			commandField = Command.getByGroupAndName(splitProperty[0], splitProperty[1]);
 		}
+		resetPollIntervals(command);
 		switch (command) {
 			case POWER: {
 				if (value.equals(LumenVCTR60AConstants.SWITCH_STATUS_ON)) {
-					powerStatusMessage = PowerStatus.ON.getName();
 					performControl(PayloadCategory.CAMERA, Command.POWER, PowerStatus.ON.getCode());
+					powerStateMachine.onCommand(PowerStatus.ON, System.currentTimeMillis());
 				} else if (value.equals(LumenVCTR60AConstants.SWITCH_STATUS_OFF)) {
-					powerStatusMessage = PowerStatus.OFF.getName();
 					performControl(PayloadCategory.CAMERA, Command.POWER, PowerStatus.OFF.getCode());
+					powerStateMachine.onCommand(PowerStatus.OFF, System.currentTimeMillis());
 				}
 				break;
 			}
@@ -367,25 +783,22 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 					break;
 				}
 				sendPanTiltDriveCommand(PanTiltDrive.getByName(panTiltDriveControlName), panSpeedInt, tiltSpeedInt);
-				try {
-					Thread.sleep(1000);
-				} catch (InterruptedException e) {
-					Thread.currentThread().interrupt();
-					this.logger.warn("Sleep interrupted", e);
-				}
-				sendPanTiltDriveCommand(PanTiltDrive.STOP, panSpeedInt, tiltSpeedInt);
+				schedulePanTiltStop(panSpeedInt, tiltSpeedInt);
 				break;
 			}
 			case PRESET: {
 				String presetControlName = splitProperty[1];
 				if (Objects.equals(presetControlName, PresetControl.RECALL.getName())) {
 					currentPreset = Integer.parseInt(value);
+					long recallTime = System.currentTimeMillis();
+					CompletableFuture<Void> completion;
 					if(currentPreset > 127){
 						byte pp = (byte) (currentPreset - 128);
-						performControl(PayloadCategory.CAMERA, Command.PRESET, PresetControl.RECALL_LARGE.getCode(), pp);
+						completion = performControl(PayloadCategory.CAMERA, Command.PRESET, PresetControl.RECALL_LARGE.getCode(), pp);
 					} else {
-						performControl(PayloadCategory.CAMERA, Command.PRESET, PresetControl.RECALL.getCode(), (byte) currentPreset);
+						completion = performControl(PayloadCategory.CAMERA, Command.PRESET, PresetControl.RECALL.getCode(), (byte) currentPreset);
 					}
+					startMotionBurst(currentPreset, recallTime, completion);
 				}
 				currentPreset = -1;
 				break;
@@ -402,6 +815,16 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 				throw new IllegalStateException("Unexpected value: " + command);
 			}
 		}
+		if (command == Command.ZOOM || command == Command.PAN_TILT_DRIVE) {
+			startMotionBurst(-1, 0, null);
+		}
+		// In batch mode, the changes are applied once every command of this control completed: a failed command leaves the value to the next poll
+		List<CompletableFuture<Void>> pipelined = eventLoop.inEventLoop() && pipelinedCommands != null ? pipelinedCommands : Collections.emptyList();
+		CompletableFuture.allOf(pipelined.toArray(new CompletableFuture<?>[0])).thenRun(() -> {
+			if (!localExtendedStatistics.applyDelta(stats, advancedControllableProperties) && logger.isDebugEnabled()) {
+				logger.debug("No statistics published yet, the next poll renders the value of " + property);
+			}
+		});
 	}
 
 	/**
@@ -416,8 +839,61 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 			throw new IllegalArgumentException("LumenCommunicator: Controllable properties cannot be null or empty");
 		}
 
-		for (ControllableProperty controllableProperty : controllableProperties) {
-			controlProperty(controllableProperty);
+		// Batch mode: commands are pipelined with a window of outstanding commands instead of waiting
+		// for ACK and COMPLETION of each one. The batch runs as a single control on the event loop: it preempts
+		// the inquiries of a poll in progress, and the poller is kept off the socket until the batch is drained
+		List<String> failures = new ArrayList<>();
+		List<ControllableProperty> deferred = new ArrayList<>();
+		CommandPipeline pipeline = createCommandPipeline();
+		long backoff = onEventLoop(DeviceEventLoop.Priority.CONTROL, () -> {
+			commandPipeline = pipeline;
+			try {
+				for (ControllableProperty controllableProperty : controllableProperties) {
+					pipelinedCommands = new ArrayList<>();
+					try {
+						controlProperty(controllableProperty);
+					} catch (CommandBufferFullException e) {
+						// Controlled again once the pipelined commands are drained
+						deferred.add(controllableProperty);
+					} catch (Exception e) {
+						this.logger.error("error during batch control of " + controllableProperty.getProperty(), e);
+						failures.add(controllableProperty.getProperty() + ": " + e.getMessage());
+					}
+				}
+				return pipeline.drain();
+			} finally {
+				commandPipeline = null;
+				pipelinedCommands = null;
+			}
+		});
+		// Commands in back off after a command buffer full reply are re-sent by later controls on the event loop,
+		// the back off elapses on this thread so that polling and other controls keep running meanwhile
+		while (backoff > 0) {
+			sleepBackoff(backoff);
+			backoff = onEventLoop(DeviceEventLoop.Priority.CONTROL, () -> {
+				commandPipeline = pipeline;
+				try {
+					return pipeline.drain();
+				} finally {
+					commandPipeline = null;
+				}
+			});
+		}
+		failures.addAll(pipeline.getFailures());
+		bufferFullRetryCount.addAndGet(pipeline.getBufferFullRetries());
+		for (ControllableProperty controllableProperty : deferred) {
+			try {
+				callWithBackpressure(DeviceEventLoop.Priority.CONTROL, () -> {
+					controlProperty(controllableProperty);
+					return null;
+				});
+			} catch (Exception e) {
+				this.logger.error("error during batch control of " + controllableProperty.getProperty(), e);
+				failures.add(controllableProperty.getProperty() + ": " + e.getMessage());
+			}
+		}
+		if (!failures.isEmpty()) {
+			throw new IllegalStateException("Failed to control " + failures.size() + " of " + controllableProperties.size() + " properties: " + String.join("; ", failures));
 		}
 	}
 
@@ -429,13 +905,35 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	 */
 	@Override
 	public List<Statistics> getMultipleStatistics() throws Exception {
+		if (backgroundPoller != null) {
+			return Collections.singletonList(getLatestStatistics());
+		}
+		if (localExtendedStatistics.get() == null && warmStart()) {
+			return Collections.singletonList(localExtendedStatistics.get());
+		}
+		Future<?> refresh = warmStartRefresh;
+		if (refresh != null && !refresh.isDone()) {
+			// The first sweep after a restart is still running, keep serving the warm-start snapshot
+			return Collections.singletonList(localExtendedStatistics.get());
+		}
+		return Collections.singletonList(pollStatistics());
+	}
+
+	/**
+	 * This method is used to poll the device and render its statistics and controls
+	 *
+	 * @return ExtendedStatistics the statistics of this cycle
+	 * @throws Exception if the adapter properties are invalid or the device cannot be polled
+	 */
+	private ExtendedStatistics pollStatistics() throws Exception {
 		reentrantLock.lock();
 		try {
-			ExtendedStatistics extStats = new ExtendedStatistics();
+			long cycleStartTime = System.currentTimeMillis();
 			Map<String, String> stats = new HashMap<>();
 			List<AdvancedControllableProperty> advancedControllableProperties = new ArrayList<>();
 			Map<String, String> dynamicStatistics = new HashMap<>();
 			StringBuilder errorMessages = new StringBuilder();
+			boolean fullyPolled = false;
 			if (logger.isDebugEnabled()) {
 				logger.debug(String.format("Perform getMultipleStatistics() at host: %s, port: %s", this.getHost(), this.getPort()));
 			}
@@ -444,30 +942,160 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		if (!errorMessages.toString().isEmpty()) {
 			throw new ResourceConfigurationException(errorMessages.toString());
 		}
+			if (isStandby() && pollStandby()) {
+				// Camera is still powered off: nothing else to poll
+				return standbySnapshot;
+			}
 
 			retrieveMetadata(stats);
-			if (System.currentTimeMillis() < nextMonitoringCycleTimestamp) {
-				// If in monitoring cycle -> do not render controllable properties
-				stats.put(Command.POWER.getName(), powerStatusMessage);
+			if (staleRepliesExpected.getAndSet(false)) {
+				drainStaleReplies();
+			}
+			if (circuitBreaker.isOpen() && !probeDevice()) {
+				// Device is offline: only the liveness probe was sent, keep the last known values
+				populateOfflineStatistics(stats);
+			} else if (powerStateMachine.isTransitioning() && !probePowerTransition()) {
+				// Camera is turning on or off -> do not render controllable properties
+				stats.put(Command.POWER.getName(), powerStateMachine.getState().getName());
 			} else {
-				// Reset sequence number to 0 if it reaches the max value of integer
-				// (need to check it before all command can be performed)
-				if (sequenceNumber == Integer.MAX_VALUE - Command.values().length) {
-					sequenceNumber = 0;
+				if (sequenceResetPending || sequenceMismatchCount.get() >= LumenVCTR60AConstants.SEQUENCE_MISMATCH_THRESHOLD) {
+					resetSequenceNumber();
 				}
+				String powerStatus = getPowerStatus();
+				PowerStatus reportedPowerStatus = PowerStatus.ON.getName().equals(powerStatus) ? PowerStatus.ON : PowerStatus.OFF;
+				powerStateMachine.onReport(reportedPowerStatus, System.currentTimeMillis());
 				// Control capabilities
-				populateGeneralProperties(stats);
-				populateControlCapabilities(stats, advancedControllableProperties);
+				populateControlCapabilities(stats, advancedControllableProperties, powerStatus, cycleStartTime);
+				fullyPolled = true;
+				lastPollTimestamp = cycleStartTime;
 			}
+			populateCommunicationStatistics(stats);
 
-			extStats.setStatistics(stats);
-			extStats.setControllableProperties(advancedControllableProperties);
-			extStats.setDynamicStatistics(dynamicStatistics);
-			localExtendedStatistics = extStats;
+			ExtendedStatistics extStats = localExtendedStatistics.publish(stats, advancedControllableProperties, dynamicStatistics);
+			if (fullyPolled && powerStateMachine.getState() == PowerState.OFF) {
+				standbySnapshot = extStats;
+				nextStandbyPollTimestamp = System.currentTimeMillis() + getStandbyPollingIntervalMillis();
+			} else {
+				standbySnapshot = null;
+			}
+			if (fullyPolled && snapshotStore != null) {
+				snapshotStore.saveAsync(getDeviceStatistics(stats));
+			}
+			return extStats;
 		} finally {
 			reentrantLock.unlock();
 		}
-		return Collections.singletonList(localExtendedStatistics);
+	}
+
+	/**
+	 * This method is used to get the statistics published by the background poller, without waiting for the device.
+	 * Before the first poll completes, the snapshot persisted before a restart is served.
+	 *
+	 * @return ExtendedStatistics the latest statistics
+	 * @throws Exception the failure of the last background poll if no statistics have been published yet
+	 */
+	private ExtendedStatistics getLatestStatistics() throws Exception {
+		ExtendedStatistics latest = localExtendedStatistics.get();
+		if (latest == null && loadWarmStartSnapshot()) {
+			latest = localExtendedStatistics.get();
+		}
+		if (latest != null) {
+			return latest;
+		}
+		Exception failure = backgroundPollFailure;
+		if (failure != null) {
+			throw failure;
+		}
+		ExtendedStatistics extStats = new ExtendedStatistics();
+		Map<String, String> stats = new HashMap<>();
+		retrieveMetadata(stats);
+		populateCommunicationStatistics(stats);
+		extStats.setStatistics(stats);
+		extStats.setControllableProperties(new ArrayList<>());
+		extStats.setDynamicStatistics(new HashMap<>());
+		return extStats;
+	}
+
+	/**
+	 * This method is used to poll the device from the background poller and publish its statistics
+	 */
+	private void pollInBackground() {
+		try {
+			pollStatistics();
+			backgroundPollFailure = null;
+		} catch (Exception e) {
+			backgroundPollFailure = e;
+			logger.warn("Background poll of " + this.getHost() + " failed: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * This method is used to serve the snapshot persisted before a restart, marked as stale, while the first sweep runs in the background
+	 *
+	 * @return boolean true if a snapshot has been loaded
+	 */
+	private boolean warmStart() {
+		if (!loadWarmStartSnapshot()) {
+			return false;
+		}
+		warmStartRefresh = backgroundExecutor.submit(() -> {
+			try {
+				pollStatistics();
+			} catch (Exception e) {
+				logger.warn("Failed to refresh warm-start snapshot of " + this.getHost() + ": " + e.getMessage());
+			}
+		});
+		return true;
+	}
+
+	/**
+	 * This method is used to load the snapshot persisted before a restart into {@link #localExtendedStatistics}, marked as stale
+	 *
+	 * @return boolean true if a snapshot has been loaded
+	 */
+	private boolean loadWarmStartSnapshot() {
+		if (snapshotStore == null) {
+			return false;
+		}
+		SnapshotStore.Snapshot snapshot = snapshotStore.load();
+		if (snapshot == null) {
+			return false;
+		}
+		Map<String, String> stats = new HashMap<>(snapshot.getValues());
+		retrieveMetadata(stats);
+		populateCommunicationStatistics(stats);
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.STALE_DATA, LumenVCTR60AConstants.TRUE);
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.SNAPSHOT_TIMESTAMP,
+				Instant.ofEpochMilli(snapshot.getTimestamp()).toString());
+		lastPollTimestamp = snapshot.getTimestamp();
+		localExtendedStatistics.publish(stats, new ArrayList<>(), new HashMap<>());
+		return true;
+	}
+
+	/**
+	 * This method is used to get the statistics read from the device, without the adapter metadata and communication statistics
+	 *
+	 * @param stats the statistics of a cycle
+	 * @return Map<String, String> the statistics to be persisted
+	 */
+	private Map<String, String> getDeviceStatistics(Map<String, String> stats) {
+		return stats.entrySet().stream()
+				.filter(entry -> !entry.getKey().startsWith(LumenVCTR60AConstants.ADAPTER_METADATA + LumenVCTR60AConstants.HASH)
+						&& !entry.getKey().startsWith(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH))
+				.collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+	}
+
+	/**
+	 * This method is used to get a file persisted for the device, e.g. its snapshot
+	 *
+	 * @param extension the extension of the file
+	 * @return Path the file in {@link #snapshotDirectory}, or in the temporary directory if not configured
+	 */
+	private Path getDeviceFile(String extension) {
+		Path directory = StringUtils.isNotNullOrEmpty(snapshotDirectory) ? Paths.get(snapshotDirectory)
+				: Paths.get(System.getProperty("java.io.tmpdir"), LumenVCTR60AConstants.SNAPSHOT_DIRECTORY_NAME);
+		String fileName = (this.getHost() + "_" + this.getPort() + "_" + VISCACameraIDAddress).replaceAll("[^A-Za-z0-9._-]", "_");
+		return directory.resolve(fileName + extension);
 	}
 
 	/**
@@ -490,6 +1118,189 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		}
 	}
 
+	/**
+	 * This method is used to check if an offline device answers again, with a single power status inquiry (no retransmission).
+	 * Any reply (error notification included) half-opens the circuit so that the device is fully polled again.
+	 * The device may have been rebooted meanwhile, so its sequence number is reset first.
+	 *
+	 * @return boolean true if the device replied
+	 */
+	private boolean probeDevice() {
+		try {
+			probePowerStatus(true);
+		} catch (Exception e) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Liveness probe of " + this.getHost() + " failed: " + e.getMessage());
+			}
+		}
+		if (circuitBreaker.isOpen()) {
+			return false;
+		}
+		sequenceResetPending = true;
+		deviceInfoCache.invalidate();
+		adaptivePollScheduler.resetAll();
+		return true;
+	}
+
+	/**
+	 * This method is used to check if the camera is in standby: powered off, reachable and already rendered as such
+	 *
+	 * @return boolean true if only the power status has to be polled
+	 */
+	private boolean isStandby() {
+		return standbySnapshot != null && standbySnapshot == localExtendedStatistics.get() && powerStateMachine.getState() == PowerState.OFF && !circuitBreaker.isOpen();
+	}
+
+	/**
+	 * This method is used to poll the power status of a camera in standby, at most once per standby polling interval
+	 *
+	 * @return boolean true if the camera is still powered off and the standby snapshot can be reused
+	 */
+	private boolean pollStandby() {
+		long now = System.currentTimeMillis();
+		if (now < nextStandbyPollTimestamp) {
+			return true;
+		}
+		String powerStatus = getPowerStatus();
+		if (PowerStatus.ON.getName().equals(powerStatus)) {
+			powerStateMachine.onReport(PowerStatus.ON, System.currentTimeMillis());
+			return false;
+		}
+		nextStandbyPollTimestamp = now + getStandbyPollingIntervalMillis();
+		return true;
+	}
+
+	/**
+	 * Retrieves the standby polling interval
+	 *
+	 * @return long the configured interval or {@link LumenVCTR60AConstants#DEFAULT_STANDBY_POLLING_INTERVAL}, in milliseconds
+	 */
+	private long getStandbyPollingIntervalMillis() {
+		int interval = standbyPollingIntervalInt != null ? standbyPollingIntervalInt : LumenVCTR60AConstants.DEFAULT_STANDBY_POLLING_INTERVAL;
+		return interval * 1000L;
+	}
+
+	/**
+	 * This method is used to probe the power status while the camera is turning on or off, when the back off is over.
+	 *
+	 * @return boolean true if the transition is over and the camera can be fully polled and controlled
+	 */
+	private boolean probePowerTransition() {
+		if (powerStateMachine.isProbeDue(System.currentTimeMillis())) {
+			try {
+				powerStateMachine.onReport(probePowerStatus(false), System.currentTimeMillis());
+			} catch (Exception e) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Power status probe of " + this.getHost() + " failed: " + e.getMessage());
+				}
+				powerStateMachine.onProbeFailure(System.currentTimeMillis());
+			}
+		}
+		return !powerStateMachine.isTransitioning();
+	}
+
+	/**
+	 * This method is used to send a single power status inquiry, without retransmission and even if the circuit is open
+	 *
+	 * @param monitored false to keep the outcome of the inquiry out of {@link #circuitBreaker} and {@link #rttEstimator},
+	 * when a timeout is expected from the camera
+	 * @return PowerStatus the power status reported by the camera
+	 * @throws IOException if the inquiry cannot be sent
+	 */
+	private PowerStatus probePowerStatus(boolean monitored) throws IOException {
+		int currentSeqNum = sequenceGenerator.next();
+		byte[] request = buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(),
+				Command.POWER.getCode());
+		byte[] response = monitored ? exchange(request) : onEventLoop(DeviceEventLoop.Priority.INQUIRY, () -> {
+			probingPowerTransition = true;
+			try {
+				return exchange(request);
+			} finally {
+				probingPowerTransition = false;
+			}
+		});
+		return (PowerStatus) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.POWER);
+	}
+
+	/**
+	 * This method is used to resynchronize the sequence number with the device, with a VISCA-over-IP control RESET.
+	 * If the device does not answer, the adapter keeps its sequence number and the reset is retried
+	 * once mismatches exceed {@link LumenVCTR60AConstants#SEQUENCE_MISMATCH_THRESHOLD} again.
+	 */
+	private void resetSequenceNumber() {
+		byte[] request = LumenVCTR60AUtils.buildControlPacket(0, ControlPayload.RESET);
+		try {
+			eventLoop.call(DeviceEventLoop.Priority.CONTROL, () -> {
+				writePacket(request);
+				long deadline = System.currentTimeMillis() + rttEstimator.getTimeout();
+				byte[] response = receive(request, deadline);
+				while (!LumenVCTR60AUtils.isControlReply(response) || LumenVCTR60AUtils.isErrorNotification(response)) {
+					staleReplyCount.incrementAndGet();
+					response = receive(request, deadline);
+				}
+				return response;
+			});
+			// The device expects sequence number 0 after a RESET
+			sequenceGenerator.reset();
+			// Out of sync sequence numbers usually mean the device rebooted
+			deviceInfoCache.invalidate();
+			adaptivePollScheduler.resetAll();
+			sequenceResetCount.incrementAndGet();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Sequence number of " + this.getHost() + " has been reset");
+			}
+		} catch (Exception e) {
+			logger.warn("Failed to reset sequence number of " + this.getHost() + ": " + e.getMessage());
+		} finally {
+			sequenceMismatchCount.set(0);
+			sequenceResetPending = false;
+		}
+	}
+
+	/**
+	 * Populates the statistics of an offline device with the last known values, controls are not rendered.
+	 * The values are marked as stale, with the timestamp of the poll that read them.
+	 *
+	 * @param stats the map where statistics will be stored
+	 */
+	private void populateOfflineStatistics(Map<String, String> stats) {
+		ExtendedStatistics lastKnown = localExtendedStatistics.get();
+		if (lastKnown != null && lastKnown.getStatistics() != null) {
+			lastKnown.getStatistics().forEach(stats::putIfAbsent);
+		}
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.STALE_DATA, LumenVCTR60AConstants.TRUE);
+		if (lastPollTimestamp > 0) {
+			stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.SNAPSHOT_TIMESTAMP,
+					Instant.ofEpochMilli(lastPollTimestamp).toString());
+		}
+	}
+
+	/**
+	 * Populates the communication statistics: current read timeout (RTO), smoothed round trip time of the device
+	 * number of retransmitted inquiries, number of discarded stale replies, number of requests re-sent on command buffer full,
+	 * number of sequence number resets, number of inquiries not supported by the firmware,
+	 * time the last control waited for the socket
+	 * and state of the circuit breaker.
+	 *
+	 * @param stats the map where statistics will be stored
+	 */
+	private void populateCommunicationStatistics(Map<String, String> stats) {
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.READ_TIMEOUT, String.valueOf(rttEstimator.getTimeout()));
+		long smoothedRtt = rttEstimator.getSmoothedRtt();
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.SMOOTHED_RTT,
+				smoothedRtt < 0 ? LumenVCTR60AConstants.NOT_AVAILABLE : String.valueOf(smoothedRtt));
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.RETRANSMISSIONS, String.valueOf(retransmissionCount.get()));
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.STALE_REPLIES, String.valueOf(staleReplyCount.get()));
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.BUFFER_FULL_RETRIES, String.valueOf(bufferFullRetryCount.get()));
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.SEQUENCE_RESETS, String.valueOf(sequenceResetCount.get()));
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.UNSUPPORTED_COMMANDS, String.valueOf(capabilityCache.size()));
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.SLOWED_INQUIRIES, String.valueOf(adaptivePollScheduler.countSlowed()));
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.CANCELLED_MOVES, String.valueOf(cancelledMoveCount.get()));
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.CONTROL_QUEUE_DELAY,
+				String.valueOf(eventLoop.getLastQueueDelay(DeviceEventLoop.Priority.CONTROL)));
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.CIRCUIT_STATE, circuitBreaker.getState().getName());
+	}
+
 	/**
 	 * This method is used for parse adapter properties from String to int value
 	 *
@@ -501,6 +1312,12 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		tiltSpeedInt = parseIntOrDefault(tiltSpeed, "Tilt speed", errorMessages);
 		zoomSpeedInt = tryParseInteger(zoomSpeed, "Zoom speed", errorMessages);
 		focusSpeedInt = tryParseInteger(focusSpeed, "Focus speed", errorMessages);
+		readTimeoutMinInt = tryParseInteger(readTimeoutMin, "Read timeout min", errorMessages);
+		readTimeoutMaxInt = tryParseInteger(readTimeoutMax, "Read timeout max", errorMessages);
+		standbyPollingIntervalInt = tryParseInteger(standbyPollingInterval, "Standby polling interval", errorMessages);
+		backgroundPollingIntervalInt = tryParseInteger(backgroundPollingInterval, "Background polling interval", errorMessages);
+		pollCycleBudgetInt = tryParseInteger(pollCycleBudget, "Poll cycle budget", errorMessages);
+		maxPropertyStalenessInt = tryParseInteger(maxPropertyStaleness, "Max property staleness", errorMessages);
 	}
 
 	/**
@@ -528,29 +1345,181 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		if (this.focusSpeedInt != null && (focusSpeedInt < 0 || focusSpeedInt > 7)) {
 			errorMessages.append("Focus speed with value ").append(this.focusSpeedInt).append(" is out of range. Focus speed must be between 0 and 7.");
 		}
+
+		int minTimeout = readTimeoutMinInt != null ? readTimeoutMinInt : LumenVCTR60AConstants.DEFAULT_READ_TIMEOUT_MIN;
+		int maxTimeout = readTimeoutMaxInt != null ? readTimeoutMaxInt : rttEstimator.getMaxTimeout();
+		if (minTimeout < LumenVCTR60AConstants.READ_TIMEOUT_TICK || maxTimeout < minTimeout) {
+			errorMessages.append("Read timeout bounds ").append(minTimeout).append(" - ").append(maxTimeout).append(" are out of range. Read timeout min must be at least ")
+					.append(LumenVCTR60AConstants.READ_TIMEOUT_TICK).append(" and not greater than read timeout max. ");
+		} else {
+			rttEstimator.setBounds(minTimeout, maxTimeout);
+		}
+
+		if (standbyPollingIntervalInt != null && standbyPollingIntervalInt < 0) {
+			errorMessages.append("Standby polling interval with value ").append(this.standbyPollingInterval).append(" is out of range. Standby polling interval must not be negative. ");
+		}
+
+		if (backgroundPollingIntervalInt != null && backgroundPollingIntervalInt < 1) {
+			errorMessages.append("Background polling interval with value ").append(this.backgroundPollingInterval).append(" is out of range. Background polling interval must be at least 1. ");
+		}
+
+		if (pollCycleBudgetInt != null && pollCycleBudgetInt < 0) {
+			errorMessages.append("Poll cycle budget with value ").append(this.pollCycleBudget).append(" is out of range. Poll cycle budget must not be negative. ");
+		}
+
+		if (maxPropertyStalenessInt != null && maxPropertyStalenessInt < 0) {
+			errorMessages.append("Max property staleness with value ").append(this.maxPropertyStaleness).append(" is out of range. Max property staleness must not be negative. ");
+		} else {
+			int staleness = maxPropertyStalenessInt != null ? maxPropertyStalenessInt : LumenVCTR60AConstants.DEFAULT_MAX_PROPERTY_STALENESS;
+			adaptivePollScheduler.setMaxInterval(staleness * 1000L);
+		}
 	}
 
 	/**
 	 * Populates the provided stats map with all configured general properties.
 	 *
+	 * Identity properties are read once per connection, network properties once per {@link LumenVCTR60AConstants#DEVICE_INFO_TTL}.
+	 *
 	 * @param stats the map to populate with retrieved properties
+	 * @param advancedControllableProperties is the list that store all controllable properties, general properties are not controllable
 	 */
-	private void populateGeneralProperties(Map<String, String> stats) {
-		try{
-			String powerStatus = powerStatusMessage != null ? powerStatusMessage : getPowerStatus();
-			if (Objects.equals(powerStatus, PowerStatus.ON.getName())) {
-				for (GeneralProperty gp : GeneralProperty.values()) {
-					String value = retrieveDeviceInfo(gp.key(), gp.categoryCode(), gp.command());
-					stats.put(gp.key(), value);
-				}
+	private void populateGeneralProperties(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
+		long now = System.currentTimeMillis();
+		refreshIdentity(now);
+		for (GeneralProperty gp : GeneralProperty.values()) {
+			refreshDeviceInfo(gp, now);
+			stats.put(gp.key(), deviceInfoCache.get(gp));
+		}
+	}
+
+	/**
+	 * This method is used to read the identity keys first: if the device was updated or replaced, every other property is read again,
+	 * and the inquiries the previous firmware did not support are probed again
+	 *
+	 * @param now current timestamp
+	 */
+	private void refreshIdentity(long now) {
+		for (GeneralProperty gp : DeviceInfoCache.IDENTITY_KEYS) {
+			refreshDeviceInfo(gp, now);
+		}
+		capabilityCache.setFirmwareVersion(deviceInfoCache.get(GeneralProperty.FIRMWARE_VERSION));
+	}
+
+	/**
+	 * This method is used to collect the polling groups in the order planned by {@link #pollPlanner}, within the {@link #pollCycleBudget}.
+	 * Once the budget has run out, the remaining groups render their last good values, marked with the time of those values,
+	 * and are polled before the groups polled by this cycle.
+	 *
+	 * @param stats is the map that store all statistics
+	 * @param advancedControllableProperties is the list that store all controllable properties
+	 * @param cycleStartTime time the monitoring cycle started
+	 */
+	private void populateGroups(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, long cycleStartTime) {
+		long deadline = pollCycleBudgetInt != null && pollCycleBudgetInt > 0 ? cycleStartTime + pollCycleBudgetInt : Long.MAX_VALUE;
+		List<PollingGroup> deferred = new ArrayList<>();
+		for (PollingGroup group : pollPlanner.plan()) {
+			if (System.currentTimeMillis() < deadline) {
+				populateGroup(group, stats, advancedControllableProperties, getGroupPopulater(group));
+				continue;
+			}
+			deferred.add(group);
+			GroupResultCache.Result lastGood = groupResultCache.get(group);
+			if (lastGood != null) {
+				stats.putAll(lastGood.getStatistics());
+				advancedControllableProperties.addAll(lastGood.getControls());
+				stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + group.getName() + LumenVCTR60AConstants.GROUP_LAST_UPDATE,
+						Instant.ofEpochMilli(lastGood.getTimestamp()).toString());
 			}
+		}
+		pollPlanner.defer(deferred);
+		stats.put(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.DEFERRED_GROUPS,
+				deferred.isEmpty() ? LumenVCTR60AConstants.NONE_VALUE : deferred.stream().map(PollingGroup::getName).collect(Collectors.joining(", ")));
+	}
+
+	/**
+	 * This method is used to get the method collecting a polling group
+	 *
+	 * @param group the polling group
+	 * @return BiConsumer the method collecting the statistics and controllable properties of the group
+	 */
+	private BiConsumer<Map<String, String>, List<AdvancedControllableProperty>> getGroupPopulater(PollingGroup group) {
+		switch (group) {
+			case GENERAL:
+				return this::populateGeneralProperties;
+			case EXPOSURE:
+				return this::populateExposureControl;
+			case FOCUS:
+				return this::populateFocusControl;
+			case MIRROR:
+				return this::populateMirrorControl;
+			case WHITE_BALANCE:
+				return this::populateWBControl;
+			case PAN_TILT:
+				return this::populatePanTiltControl;
+			case PAN_TILT_ZOOM:
+				return this::populatePanTiltZoomControl;
+			case PICTURE:
+				return this::populatePictureControl;
+			case PRESET:
+				return this::populatePresetControl;
+			case ZOOM:
+				return this::populateZoomControl;
+			default:
+				throw new IllegalStateException("Unexpected value: " + group);
+		}
+	}
+
+	/**
+	 * This method is used to collect a group of properties independently of the other groups.
+	 * When the group fails, its last good values are rendered instead and the error and the time of the last good values
+	 * are reported in the communication statistics, so that one failing inquiry does not discard the whole cycle.
+	 *
+	 * @param group the polling group
+	 * @param stats is the map that store all statistics
+	 * @param advancedControllableProperties is the list that store all controllable properties
+	 * @param populater collects the statistics and controllable properties of the group
+	 */
+	private void populateGroup(PollingGroup group, Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties,
+			BiConsumer<Map<String, String>, List<AdvancedControllableProperty>> populater) {
+		Map<String, String> groupStats = new HashMap<>();
+		List<AdvancedControllableProperty> groupControls = new ArrayList<>();
+		try {
+			populater.accept(groupStats, groupControls);
+			groupResultCache.update(group, groupStats, groupControls, System.currentTimeMillis());
 		} catch (Exception e) {
-			throw new ResourceNotReachableException(e.getMessage(), e);
+			logger.error("error during populate " + group.getName() + " of " + this.getHost(), e);
+			String groupKey = LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + group.getName();
+			stats.put(groupKey + LumenVCTR60AConstants.GROUP_ERROR, e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName());
+			GroupResultCache.Result lastGood = groupResultCache.get(group);
+			if (lastGood == null) {
+				return;
+			}
+			groupStats = lastGood.getStatistics();
+			groupControls = lastGood.getControls();
+			stats.put(groupKey + LumenVCTR60AConstants.GROUP_LAST_UPDATE, Instant.ofEpochMilli(lastGood.getTimestamp()).toString());
 		}
+		stats.putAll(groupStats);
+		advancedControllableProperties.addAll(groupControls);
 	}
 
 	/**
-	 * This method is used for populate all controlling properties:
+	 * This method is used to read a general property from the device unless its cached value is still fresh
+	 *
+	 * @param property the general property
+	 * @param now timestamp of the cycle
+	 */
+	private void refreshDeviceInfo(GeneralProperty property, long now) {
+		if (deviceInfoCache.isFresh(property, now)) {
+			return;
+		}
+		String value = retrieveDeviceInfo(property.key(), property.categoryCode(), property.command());
+		if (deviceInfoCache.update(property, value, now) && logger.isInfoEnabled()) {
+			logger.info(property.key() + " of " + this.getHost() + " changed to " + value + ", device information is read again");
+		}
+	}
+
+	/**
+	 * This method is used for populate the general properties and all controlling properties:
 	 * <li>Exposure</li>
 	 * <li>Focus</li>
 	 * <li>Mirror</li>
@@ -563,44 +1532,25 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	 *
 	 * @param stats is the map that store all statistics
 	 * @param advancedControllableProperties is the list that store all controllable properties
+	 * @param powerStatus the power status read in this cycle
+	 * @param cycleStartTime time the monitoring cycle started
 	 */
-	private void populateControlCapabilities(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties) {
-		try {
-			// Getting power status from device
-			String powerStatus = powerStatusMessage != null ? powerStatusMessage : getPowerStatus();
-			if (Objects.equals(powerStatus, PowerStatus.ON.getName())) {
-				populateSwitchControl(stats, advancedControllableProperties, Command.POWER.getName(), PowerStatus.ON.getName(), PowerStatus.OFF.getName(), PowerStatus.ON.getName());
-				// Exposure control
-				populateExposureControl(stats, advancedControllableProperties);
-
-				// Focus control
-				populateFocusControl(stats, advancedControllableProperties);
-
-				//Mirror control
-				populateMirrorControl(stats, advancedControllableProperties);
-
-				// WB control
-				populateWBControl(stats, advancedControllableProperties);
-
-				// Pan tilt control
-				populatePanTiltControl(stats, advancedControllableProperties);
-
-				// Pan tilt zoom control
-				populatePanTiltZoomControl(stats, advancedControllableProperties);
-
-				// Picture
-				populatePictureControl(stats, advancedControllableProperties);
-
-				// Preset control
-				populatePresetControl(stats, advancedControllableProperties);
-
-				// Zoom control
-				populateZoomControl(stats, advancedControllableProperties);
-			} else {
-				populateSwitchControl(stats, advancedControllableProperties, Command.POWER.getName(), PowerStatus.OFF.getName(), PowerStatus.OFF.getName(), PowerStatus.ON.getName());
+	private void populateControlCapabilities(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String powerStatus,
+			long cycleStartTime) {
+		if (Objects.equals(powerStatus, PowerStatus.ON.getName())) {
+			populateSwitchControl(stats, advancedControllableProperties, Command.POWER.getName(), PowerStatus.ON.getName(), PowerStatus.OFF.getName(), PowerStatus.ON.getName());
+			// The firmware is checked before any group, so that no group skips inquiries on the unsupported set of another firmware
+			try {
+				refreshIdentity(cycleStartTime);
+			} catch (Exception e) {
+				if (logger.isDebugEnabled()) {
+					logger.debug("Failed to read the identity of " + this.getHost() + ", it is read again by the general properties: " + e.getMessage());
+				}
 			}
-		} catch (Exception e){
-			throw new ResourceNotReachableException(e.getMessage(), e);
+			// Each group is collected independently: a failing group keeps its last good values
+			populateGroups(stats, advancedControllableProperties, cycleStartTime);
+		} else {
+			populateSwitchControl(stats, advancedControllableProperties, Command.POWER.getName(), PowerStatus.OFF.getName(), PowerStatus.OFF.getName(), PowerStatus.ON.getName());
 		}
 	}
 
@@ -866,29 +1816,212 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		}
 	}
 
+	/**
+	 * Sends an inquiry asynchronously. The inquiry is queued on the event loop of the device, so no caller thread is blocked
+	 * while waiting for the camera; retransmissions and unsupported inquiries are handled as for polling.
+	 *
+	 * @param command the command to be inquired
+	 * @param category the category of payload of the inquiry
+	 * @param <T> type of the result, as digested by {@link ResponseParser} for the command
+	 * @return CompletableFuture completed with the result, null if the firmware does not support the inquiry,
+	 * or completed exceptionally if the device cannot be reached
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> inquire(Command command, PayloadCategory category) {
+		return submitWithBackpressure(DeviceEventLoop.Priority.INQUIRY, () -> (T) inquire(category.getCode(), command));
+	}
+
+	/**
+	 * Sends a command asynchronously. The command is queued on the event loop of the device, before any queued inquiry.
+	 * Unlike {@link #performControl(PayloadCategory, Command, byte...)}, failures are never swallowed.
+	 * A movement only holds the event loop until its ACK: inquiries, including the position burst, keep flowing
+	 * while the camera moves, and the future completes when any later read finds the COMPLETION of the movement.
+	 *
+	 * @param category the category of payload of the command
+	 * @param command the command to be sent
+	 * @param param the param of the command
+	 * @return CompletableFuture completed when the device reports the completion of the command,
+	 * or completed exceptionally if the device cannot be reached, rejects the command or another movement cancels it
+	 */
+	public CompletableFuture<Void> command(PayloadCategory category, Command command, byte... param) {
+		return submitWithBackpressure(DeviceEventLoop.Priority.CONTROL, () -> {
+			long sendTime = System.currentTimeMillis();
+			int currentSeqNum = sequenceGenerator.next();
+			byte[] request = buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), category.getCode(),
+					command.getCode(), param);
+			if (isMovement(command, param)) {
+				CompletableFuture<byte[]> completion = sendMovement(command.getName(), request);
+				if (command == Command.PRESET && param.length > 1) {
+					startMotionBurst(Byte.toUnsignedInt(param[1]) + (param[0] == PresetControl.RECALL_LARGE.getCode() ? 128 : 0), sendTime, completion);
+				} else {
+					startMotionBurst(-1, sendTime, null);
+				}
+				int sequenceNumber = LumenVCTR60AUtils.getSequenceNumber(request);
+				return completion.thenAccept(reply -> digestResponse(reply, sequenceNumber, CommandType.COMMAND, null));
+			}
+			byte[] response = sendWithBackpressure(request);
+			digestResponse(response, LumenVCTR60AUtils.getSequenceNumber(request), CommandType.COMMAND, null);
+			if (command == Command.POWER && param.length > 0) {
+				powerStateMachine.onCommand(param[0] == PowerStatus.ON.getCode() ? PowerStatus.ON : PowerStatus.OFF, System.currentTimeMillis());
+			}
+			return CompletableFuture.<Void>completedFuture(null);
+		}).thenCompose(Function.identity());
+	}
+
 	/**
 	 * This method used to perform control of all properties by send, receive command from device
 	 *
 	 * @param payloadCategory is the category of payload of the command to be sent
 	 * @param command is the command to be sent
 	 * @param param is the param of command to be sent
+	 * @return CompletableFuture completed when the device reports the completion of the command, later than the return
+	 * for movements and pipelined commands; completed exceptionally if a preset command fails
 	 */
-	public void performControl(PayloadCategory payloadCategory, Command command, byte... param) {
+	public CompletableFuture<Void> performControl(PayloadCategory payloadCategory, Command command, byte... param) {
 		byte[] request;
 		byte[] response;
 
 		try {
-			int currentSeqNum = ++sequenceNumber;
+			int currentSeqNum = sequenceGenerator.next();
 			request = buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.COMMAND.getCode(), CommandType.COMMAND.getCode(), payloadCategory.getCode(),
 					command.getCode(), param);
-			response = send(request);
+			// Movements return on ACK: the camera keeps moving while the next requests are sent, and a later movement cancels it
+			if (isMovement(command, param)) {
+				return sendMovement(command.getName(), request).thenApply(reply -> null);
+			}
+			// Power commands are not pipelined: power off is never answered by the device
+			if (commandPipeline != null && command != Command.POWER && eventLoop.inEventLoop()) {
+				CompletableFuture<Void> completed = new CompletableFuture<>();
+				if (pipelinedCommands != null) {
+					pipelinedCommands.add(completed);
+				}
+				commandPipeline.submit(command.getName(), request, () -> completed.complete(null));
+				return completed;
+			}
+			response = sendWithBackpressure(request);
 
-			digestResponse(response, currentSeqNum, CommandType.COMMAND, null);
+			digestResponse(response, LumenVCTR60AUtils.getSequenceNumber(request), CommandType.COMMAND, null);
+			return CompletableFuture.completedFuture(null);
+		} catch (CommandBufferFullException e) {
+			// Sent on the event loop: the control is queued again by its caller once the back off is over
+			throw e;
 		} catch (Exception e) {
 			this.logger.error("error during command " + command.getName() + " send", e);
 			if(!Command.PRESET.getName().equals(command.getName())){
 				throw new IllegalStateException("Error while sending command " + command.getName());
 			}
+			CompletableFuture<Void> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+	}
+
+	/**
+	 * This method is used to check if a command moves the camera
+	 *
+	 * @param command is the command to be sent
+	 * @param param is the param of the command
+	 * @return boolean true for preset recalls, pan/tilt drives and direct zoom; false for the STOP of a drive, which ends the movement
+	 * in progress instead of superseding it
+	 */
+	private boolean isMovement(Command command, byte... param) {
+		switch (command) {
+			case PRESET:
+				return param.length > 0 && (param[0] == PresetControl.RECALL.getCode() || param[0] == PresetControl.RECALL_LARGE.getCode());
+			case PAN_TILT_DRIVE:
+				return param.length < 4 || !Arrays.equals(PanTiltDrive.STOP.getCode(), Arrays.copyOfRange(param, param.length - 2, param.length));
+			case PAN_TILT_HOME:
+			case ZOOM_POSITION:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * This method is used to send a movement command. The movements in progress, if any, are cancelled first so that
+	 * the newest movement takes effect immediately instead of waiting in the command buffer of the camera.
+	 * The command returns on ACK; the socket reported by the ACK is recorded in {@link #movementTracker}
+	 * until a later read finds the COMPLETION of the command.
+	 *
+	 * @param name is the name of the command
+	 * @param request is the command packet
+	 * @return CompletableFuture completed with the COMPLETION or ERROR reply of the command
+	 * @throws Exception if the command fails before its ACK
+	 */
+	private CompletableFuture<byte[]> sendMovement(String name, byte[] request) throws Exception {
+		CompletableFuture<byte[]> completion = callWithBackpressure(DeviceEventLoop.Priority.CONTROL, () -> {
+			cancelSupersededMovements(name);
+			sendingMovement = name;
+			byte[] response;
+			try {
+				response = sendWithBackpressure(request);
+			} finally {
+				sendingMovement = null;
+			}
+			// A reply without ACK is already the COMPLETION of the command
+			CompletableFuture<byte[]> tracked = movementTracker.getCompletion(LumenVCTR60AUtils.getSequenceNumber(response));
+			return tracked != null ? tracked : CompletableFuture.completedFuture(response);
+		});
+		if (!completion.isDone()) {
+			scheduleMovementWatch();
+		}
+		return completion;
+	}
+
+	/**
+	 * This method is used to send the VISCA Cancel of the movements in progress.
+	 * The cancel is not awaited: its reply and the ERROR of the cancelled command are discarded as stale replies.
+	 *
+	 * @param supersedingName is the name of the movement about to be sent
+	 * @throws IOException if the cancel cannot be written
+	 */
+	private void cancelSupersededMovements(String supersedingName) throws IOException {
+		for (int socket : movementTracker.getSockets()) {
+			String cancelledName = movementTracker.getName(socket);
+			writePacket(LumenVCTR60AUtils.buildCancelPacket(cameraIDInt, sequenceGenerator.next(), socket));
+			staleRepliesExpected.set(true);
+			movementTracker.cancel(socket);
+			cancelledMoveCount.incrementAndGet();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Cancelled " + cancelledName + " on socket " + socket + " of " + this.getHost() + ", superseded by " + supersedingName);
+			}
+		}
+	}
+
+	/**
+	 * This method is used to schedule a read of the completions of the movements in progress, unless one is already scheduled.
+	 * Polling and position reads usually find the completions first, the watch only reads the socket when nothing else does.
+	 */
+	private void scheduleMovementWatch() {
+		ScheduledExecutorService scheduler = motionBurstScheduler;
+		if (scheduler == null || !movementWatchScheduled.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			scheduler.schedule(this::watchMovements, LumenVCTR60AConstants.MOVEMENT_WATCH_INTERVAL, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			movementWatchScheduled.set(false);
+		}
+	}
+
+	/**
+	 * This method is used to read the completions of the movements in progress, and to fail the movements which
+	 * did not complete within {@link LumenVCTR60AConstants#MOVEMENT_COMPLETION_TIMEOUT}.
+	 * The read is queued on the event loop as an inquiry, so controls and polling run first.
+	 */
+	private void watchMovements() {
+		movementWatchScheduled.set(false);
+		if (!movementTracker.isPending()) {
+			return;
+		}
+		drainStaleReplies();
+		int expired = movementTracker.expire(System.currentTimeMillis(), LumenVCTR60AConstants.MOVEMENT_COMPLETION_TIMEOUT);
+		if (expired > 0 && logger.isDebugEnabled()) {
+			logger.debug("No completion of " + expired + " movements of " + this.getHost() + " after " + LumenVCTR60AConstants.MOVEMENT_COMPLETION_TIMEOUT + "ms");
+		}
+		if (movementTracker.isPending()) {
+			scheduleMovementWatch();
 		}
 	}
 	//endregion
@@ -908,6 +2041,8 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 
 		// Populate zoom wide button
 		populateButtonControl(stats, advancedControllableProperties, Command.ZOOM.getName() + LumenVCTR60AConstants.HASH + ZoomControl.WIDE.getName(), LumenVCTR60AConstants.MINUS);
+
+		stats.put(Command.ZOOM.getName() + LumenVCTR60AConstants.HASH + Command.ZOOM_POSITION.getName(), getZoomPosition());
 	}
 
 	/**
@@ -924,6 +2059,7 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		}
 		String afSensitivityValue = this.getAFSensitivity();
 		String afFrameValue = this.getAFFrame();
+		stats.put(Command.FOCUS_GROUP.getName() + LumenVCTR60AConstants.HASH + Command.FOCUS_POSITION.getName(), getFocusPosition());
 
 		List<String> afFrame = Arrays.asList(
 				AFFrame.CENTER.getName(),
@@ -1247,6 +2383,21 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + LumenVCTR60AConstants.HASH + Index.EIGHT.getName() + PanTiltDrive.DOWN_LEFT.getName(), PanTiltDrive.DOWN_LEFT.getName());
 		// Populate pan tilt drive down right button
 		populateButtonControl(stats, advancedControllableProperties, Command.PAN_TILT_DRIVE.getName() + LumenVCTR60AConstants.HASH + Index.NINE.getName() + PanTiltDrive.DOWN_RIGHT.getName(), PanTiltDrive.DOWN_RIGHT.getName());
+
+		populatePanTiltPosition(stats);
+	}
+
+	/**
+	 * This method is used for populate the pan and tilt positions
+	 *
+	 * @param stats is the map that store all statistics
+	 */
+	private void populatePanTiltPosition(Map<String, String> stats) {
+		PanTiltPosition position = getPanTiltPosition();
+		stats.put(Command.PAN_TILT_DRIVE.getName() + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.PAN_POSITION,
+				position == null ? LumenVCTR60AConstants.NOT_AVAILABLE : String.valueOf(position.getPan()));
+		stats.put(Command.PAN_TILT_DRIVE.getName() + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.TILT_POSITION,
+				position == null ? LumenVCTR60AConstants.NOT_AVAILABLE : String.valueOf(position.getTilt()));
 	}
 
 	/**
@@ -1265,6 +2416,7 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		String presetValue = currentPreset == -1 ? LumenVCTR60AConstants.DEFAULT_PRESET : String.valueOf(currentPreset);
 
 		addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(Command.PRESET.getName() + LumenVCTR60AConstants.HASH + PresetControl.RECALL.getName(), presetList, presetValue), presetValue);
+		populatePresetMoveStatistics(stats);
 }
 
 	/**
@@ -1292,136 +2444,581 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 				InitialPosition.FIRST_PRESET.getName()
 		);
 
-		String dZoomValue = this.getDZoomValue();
-		String ptzSpeedCompStatus = this.getPanTiltStatus();
-		String motionlessPreset = this.getMotionlessPreset();
-		String initialPosition = this.getInitialPosition();
-		String presetSpeedValue = this.getPresetSpeed();
+		String dZoomValue = this.getDZoomValue();
+		String ptzSpeedCompStatus = this.getPanTiltStatus();
+		String motionlessPreset = this.getMotionlessPreset();
+		String initialPosition = this.getInitialPosition();
+		String presetSpeedValue = this.getPresetSpeed();
+
+		populateSwitchControl(stats, advancedControllableProperties, Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.PTZ_SPEED_COMP.getName(), ptzSpeedCompStatus,
+				SlowPanTiltStatus.OFF.getName(), SlowPanTiltStatus.ON.getName());
+
+		populateSwitchControl(stats, advancedControllableProperties, Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.MOTIONLESS_PRESET.getName(), motionlessPreset,
+				SlowPanTiltStatus.OFF.getName(), SlowPanTiltStatus.ON.getName());
+
+		addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.D_ZOOM_LIMIT.getName(), dZoomList, dZoomValue), dZoomValue);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.PRESET_SPEED.getName(), presetSpeedList, presetSpeedValue), presetSpeedValue);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.INITIAL_POSITION.getName(), initialPositionList, initialPosition), initialPosition);
+	}
+
+	/**
+	 * This method is used for populate slider control
+	 *
+	 * @param stats is the map that store all statistics
+	 * @param advancedControllableProperties is the list that store all controllable properties
+	 * @param propertyName is the property name of slider
+	 * @param currentPropertyName is the label for current value of property
+	 * @param propertyValue is the current value of property
+	 * @param labelStart is the label start of slider
+	 * @param labelEnd is the label end of slider
+	 * @param rangeStart is the range start of slider
+	 * @param rangeEnd is the range end of slider
+	 * @param initialValue is the initial value of slider
+	 */
+	private void populateSliderControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String propertyName,
+			String currentPropertyName, String propertyValue, String labelStart, String labelEnd, float rangeStart, float rangeEnd, float initialValue) {
+
+		if (Objects.equals(propertyValue, LumenVCTR60AConstants.NONE_VALUE)) {
+			stats.put(propertyName, LumenVCTR60AConstants.NONE_VALUE);
+			stats.put(currentPropertyName, LumenVCTR60AConstants.NONE_VALUE);
+			return;
+		}
+		stats.put(propertyName, String.valueOf(initialValue));
+		stats.put(currentPropertyName, propertyValue);
+		addAdvancedControlProperties(advancedControllableProperties, stats, createSlider(propertyName, labelStart, labelEnd, rangeStart, rangeEnd, initialValue), LumenVCTR60AConstants.NOT_AVAILABLE);
+	}
+
+	/**
+	 * This method is used for populate switch control
+	 *
+	 * @param stats is the map that store all statistics
+	 * @param advancedControllableProperties is the list that store all controllable properties
+	 * @param propertyName is the property name of switch control
+	 * @param currentStatus is the current status of switch control
+	 * @param labelOff is the label off of switch control
+	 * @param labelOn is the label on of switch control
+	 */
+	private void populateSwitchControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String propertyName, String currentStatus,
+			String labelOff, String labelOn) {
+		if (Objects.equals(currentStatus, LumenVCTR60AConstants.NONE_VALUE)) {
+			stats.put(propertyName, LumenVCTR60AConstants.NOT_AVAILABLE);
+			return;
+		}
+
+		if (Objects.equals(currentStatus, labelOn)) {
+			stats.put(propertyName, String.valueOf(1));
+			addAdvancedControlProperties(advancedControllableProperties, stats, createSwitch(propertyName, 1, labelOff, labelOn), currentStatus);
+		} else if (Objects.equals(currentStatus, labelOff)) {
+			stats.put(propertyName, String.valueOf(0));
+			addAdvancedControlProperties(advancedControllableProperties, stats, createSwitch(propertyName, 0, labelOff, labelOn), currentStatus);
+		}
+	}
+
+	/**
+	 * This method is used for populate button control
+	 *
+	 * @param stats is the map that store all statistics
+	 * @param advancedControllableProperties is the list that store all controllable properties
+	 * @param propertyName is the property name of button control
+	 * @param buttonLabel is the label of button control
+	 */
+	private void populateButtonControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String propertyName, String buttonLabel) {
+		stats.put(propertyName, LumenVCTR60AConstants.NOT_AVAILABLE);
+		advancedControllableProperties.add(createButton(propertyName, buttonLabel));
+	}
+	//--------------------------------------------------------------------------------------------------------------------------------
+	//endregion
+
+	//region Get current value from device
+	//--------------------------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * This method is used to get the monitoring capabilities
+	 *
+	 * @return String This returns the monitoring capabilities of device
+	 */
+	private String retrieveDeviceInfo(String key, byte category, Command expectedCommand) {
+		try {
+			String result = (String) inquire(category, expectedCommand);
+			if (result == null) {
+				return capabilityCache.isUnsupported(category, expectedCommand) ? LumenVCTR60AConstants.NOT_AVAILABLE : LumenVCTR60AConstants.NONE_VALUE;
+			}
+			return result;
+		} catch (Exception e) {
+			if (logger.isErrorEnabled()) {
+				logger.error("Error getting " + key, e);
+			}
+			throw new ResourceNotReachableException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * This method is used to send a request, backing off and re-sending it with a fresh sequence number
+	 * while the command buffer of the device is full, up to {@link LumenVCTR60AConstants#COMMAND_BUFFER_FULL_MAX_RETRIES} times.
+	 * The event loop is never held during the back off: called from the event loop, the request fails with a
+	 * {@link CommandBufferFullException} and is queued again by {@link #callWithBackpressure} or {@link #submitWithBackpressure}.
+	 *
+	 * @param request This is a byte array of request to be sent, its sequence number is replaced on re-send
+	 * @return byte[] This returns the response receive from device
+	 * @throws Exception if the request fails or the command buffer is still full after the last retry
+	 */
+	private byte[] sendWithBackpressure(byte[] request) throws Exception {
+		long backoff = LumenVCTR60AConstants.COMMAND_BUFFER_FULL_BACKOFF;
+		for (int retry = 0; ; retry++) {
+			try {
+				return send(request);
+			} catch (CommandFailureException e) {
+				if (!isCommandBufferFull(e.getResponse())) {
+					throw e;
+				}
+				if (eventLoop.inEventLoop()) {
+					throw new CommandBufferFullException(e);
+				}
+				if (retry >= LumenVCTR60AConstants.COMMAND_BUFFER_FULL_MAX_RETRIES) {
+					throw e;
+				}
+				bufferFullRetryCount.incrementAndGet();
+				if (logger.isDebugEnabled()) {
+					logger.debug("Command buffer of " + this.getHost() + " is full, re-sending in " + backoff + "ms");
+				}
+				Thread.sleep(backoff);
+				backoff *= 2;
+				LumenVCTR60AUtils.setSequenceNumber(request, sequenceGenerator.next());
+			}
+		}
+	}
+
+	/**
+	 * This method is used to run a request on the {@link #eventLoop} and wait for its result.
+	 * While the command buffer of the device is full, the request is queued again after a back off elapsed on the calling thread,
+	 * up to {@link LumenVCTR60AConstants#COMMAND_BUFFER_FULL_MAX_RETRIES} times. Called from the event loop, the request runs
+	 * immediately and a full command buffer is left to the enclosing request.
+	 *
+	 * @param priority priority of the request
+	 * @param request the request, run again from the start on each re-send
+	 * @param <T> type of the result
+	 * @return T the result of the request
+	 * @throws IOException if the request fails
+	 */
+	private <T> T callWithBackpressure(DeviceEventLoop.Priority priority, Callable<T> request) throws IOException {
+		long backoff = LumenVCTR60AConstants.COMMAND_BUFFER_FULL_BACKOFF;
+		for (int retry = 0; ; retry++) {
+			try {
+				return onEventLoop(priority, request);
+			} catch (CommandBufferFullException e) {
+				if (eventLoop.inEventLoop() || retry >= LumenVCTR60AConstants.COMMAND_BUFFER_FULL_MAX_RETRIES) {
+					throw e;
+				}
+				bufferFullRetryCount.incrementAndGet();
+				if (logger.isDebugEnabled()) {
+					logger.debug("Command buffer of " + this.getHost() + " is full, queuing the request again in " + backoff + "ms");
+				}
+				sleepBackoff(backoff);
+				backoff *= 2;
+			}
+		}
+	}
+
+	/**
+	 * This method is used to queue a request on the {@link #eventLoop} without waiting for its result.
+	 * While the command buffer of the device is full, the request is queued again by {@link #motionBurstScheduler} after a back off,
+	 * up to {@link LumenVCTR60AConstants#COMMAND_BUFFER_FULL_MAX_RETRIES} times.
+	 *
+	 * @param priority priority of the request
+	 * @param request the request, run again from the start on each re-send
+	 * @param <T> type of the result
+	 * @return CompletableFuture completed with the result of the request
+	 */
+	private <T> CompletableFuture<T> submitWithBackpressure(DeviceEventLoop.Priority priority, Callable<T> request) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		submitWithBackpressure(priority, request, 0, LumenVCTR60AConstants.COMMAND_BUFFER_FULL_BACKOFF, result);
+		return result;
+	}
+
+	/**
+	 * This method is used to queue an attempt of a request submitted by {@link #submitWithBackpressure(DeviceEventLoop.Priority, Callable)}
+	 *
+	 * @param priority priority of the request
+	 * @param request the request
+	 * @param retry number of attempts already rejected with command buffer full
+	 * @param backoff delay in milliseconds before the next attempt
+	 * @param result the future of the request
+	 * @param <T> type of the result
+	 */
+	private <T> void submitWithBackpressure(DeviceEventLoop.Priority priority, Callable<T> request, int retry, long backoff, CompletableFuture<T> result) {
+		eventLoop.submit(priority, request).whenComplete((value, error) -> {
+			ScheduledExecutorService scheduler = motionBurstScheduler;
+			if (error instanceof CommandBufferFullException && retry < LumenVCTR60AConstants.COMMAND_BUFFER_FULL_MAX_RETRIES && scheduler != null) {
+				try {
+					scheduler.schedule(() -> submitWithBackpressure(priority, request, retry + 1, backoff * 2, result), backoff, TimeUnit.MILLISECONDS);
+					bufferFullRetryCount.incrementAndGet();
+					return;
+				} catch (RejectedExecutionException e) {
+					// The adapter is destroyed, the command buffer full reply is reported
+				}
+			}
+			if (error != null) {
+				result.completeExceptionally(error);
+			} else {
+				result.complete(value);
+			}
+		});
+	}
+
+	/**
+	 * This method is used to wait for a back off on the calling thread, never on the {@link #eventLoop}
+	 *
+	 * @param backoff delay in milliseconds
+	 * @throws IOException if the thread is interrupted
+	 */
+	private void sleepBackoff(long backoff) throws IOException {
+		try {
+			Thread.sleep(backoff);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for " + this.getHost(), e);
+		}
+	}
+
+	/**
+	 * This method is used to check if an error reply means the command buffer of the device is full
+	 *
+	 * @param responseString This is a string represented for response to be checked
+	 * @return boolean true if the request can be re-sent later
+	 */
+	private boolean isCommandBufferFull(String responseString) {
+		return responseString != null && (responseString.endsWith(getHexByteString(ReplyStatus.COMMAND_BUFFER_FULL_CONTROL.getCode()))
+				|| responseString.endsWith(getHexByteString(ReplyStatus.COMMAND_BUFFER_FULL_INQUIRY.getCode())));
+	}
+
+	/**
+	 * This method is used to check if an error reply means the inquiry is not supported by the device
+	 *
+	 * @param responseString This is a string represented for response to be checked
+	 * @return boolean true if the inquiry must not be sent again with the current firmware
+	 */
+	private boolean isUnsupportedInquiry(String responseString) {
+		return responseString != null && (responseString.endsWith(getHexByteString(ReplyStatus.SYNTAX_ERROR_INQUIRY.getCode()))
+				|| responseString.endsWith(getHexByteString(ReplyStatus.COMMAND_NOT_EXECUTABLE_INQUIRY.getCode())));
+	}
+
+	/**
+	 * This method is used to send an inquiry and digest its reply.
+	 * Inquiries are idempotent: when the request or its reply is lost, the inquiry is retransmitted with a fresh
+	 * sequence number, up to {@link LumenVCTR60AConstants#INQUIRY_MAX_ATTEMPTS} attempts with exponential back off.
+	 * When the device rejects the sequence number, the inquiry is re-sent with a fresh one; after
+	 * {@link LumenVCTR60AConstants#SEQUENCE_MISMATCH_THRESHOLD} rejections the sequence number is reset first, once.
+	 * An inquiry the firmware does not support is recorded in {@link #capabilityCache} and not sent again.
+	 *
+	 * @param category is the category code of the inquiry
+	 * @param command is the command to be inquired
+	 * @return Object This returns the result digested from the reply, null if the inquiry is not supported
+	 * @throws Exception if every attempt fails or the device replies with an error
+	 */
+	private Object inquire(byte category, Command command) throws Exception {
+		if (capabilityCache.isUnsupported(category, command)) {
+			return null;
+		}
+		long backoff = LumenVCTR60AConstants.INQUIRY_RETRANSMISSION_BACKOFF;
+		int attempt = 1;
+		int rejections = 0;
+		boolean reset = false;
+		while (true) {
+			int currentSeqNum = sequenceGenerator.next();
+			byte[] request = buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), category, command.getCode());
+			try {
+				byte[] response = sendWithBackpressure(request);
+				return digestResponse(response, LumenVCTR60AUtils.getSequenceNumber(request), CommandType.INQUIRY, command);
+			} catch (CommandFailureException e) {
+				if (!isUnsupportedInquiry(e.getResponse())) {
+					throw e;
+				}
+				capabilityCache.markUnsupported(category, command);
+				if (logger.isInfoEnabled()) {
+					logger.info("Inquiry " + command.getName() + " is not supported by " + this.getHost() + ", it is skipped until the firmware changes");
+				}
+				return null;
+			} catch (ResourceNotReachableException e) {
+				if (e.getCause() instanceof ErrorNotificationException) {
+					// Still rejected after a RESET: the device is not out of sync
+					if (reset) {
+						throw e;
+					}
+					rejections++;
+					if (rejections >= LumenVCTR60AConstants.SEQUENCE_MISMATCH_THRESHOLD || sequenceMismatchCount.get() >= LumenVCTR60AConstants.SEQUENCE_MISMATCH_THRESHOLD) {
+						resetSequenceNumber();
+						reset = true;
+					}
+					if (logger.isDebugEnabled()) {
+						logger.debug("Inquiry " + command.getName() + " rejected by " + this.getHost() + ", re-sending with a fresh sequence number");
+					}
+					continue;
+				}
+				if (!(e.getCause() instanceof SocketTimeoutException) || attempt >= LumenVCTR60AConstants.INQUIRY_MAX_ATTEMPTS) {
+					throw e;
+				}
+				attempt++;
+				retransmissionCount.incrementAndGet();
+				if (logger.isDebugEnabled()) {
+					logger.debug("No reply for inquiry " + command.getName() + ", retransmitting (attempt " + attempt + ")");
+				}
+				// On the event loop, the timeout of the lost attempt already spaced the retransmission: never hold the loop any longer
+				if (!eventLoop.inEventLoop()) {
+					Thread.sleep(backoff);
+				}
+				backoff *= 2;
+			}
+		}
+	}
+
+	/**
+	 * This method is used to poll again, on the next read, the properties a control may change.
+	 * A control of a group resets the whole group, since a mode change alters the other values of the group;
+	 * power, zoom, focus and camera moves reset the positions, and power resets every property.
+	 *
+	 * @param command is the command get from controllable property group
+	 */
+	private void resetPollIntervals(Command command) {
+		switch (command) {
+			case POWER:
+				adaptivePollScheduler.resetAll();
+				break;
+			case ZOOM:
+			case FOCUS_GROUP:
+			case PAN_TILT_DRIVE:
+			case PRESET:
+				adaptivePollScheduler.reset(Command.ZOOM_POSITION, Command.FOCUS_POSITION);
+				adaptivePollScheduler.resetGroup(command.getName());
+				break;
+			default:
+				adaptivePollScheduler.resetGroup(command.getName());
+				break;
+		}
+	}
+
+	/**
+	 * This method is used to read a property on the poll interval given by {@link #adaptivePollScheduler}.
+	 * Between two reads the last value is rendered; the power status is read on every call.
+	 *
+	 * @param command is the command to be inquired
+	 * @param category is the category of the inquiry
+	 * @param responseType is the type of the digested reply
+	 * @param logMessage is the name of the property in the logs
+	 * @param mapper converts the digested reply to the rendered value
+	 * @param <T> type of the digested reply
+	 * @return String the rendered value, N/A if the inquiry is not supported
+	 */
+	private <T> String getValueByCommand(Command command, PayloadCategory category, Class<T> responseType, String logMessage, Function<T, String> mapper) {
+		try {
+			Object rawResult = pollValue(command, category);
+			T result = responseType.cast(rawResult);
+
+			if (result == null) {
+				return LumenVCTR60AConstants.NOT_AVAILABLE;
+			}
+			return mapper.apply(result);
 
-		populateSwitchControl(stats, advancedControllableProperties, Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.PTZ_SPEED_COMP.getName(), ptzSpeedCompStatus,
-				SlowPanTiltStatus.OFF.getName(), SlowPanTiltStatus.ON.getName());
+		} catch (Exception e) {
+			this.logger.error("error during get " + logMessage, e);
+			throw new ResourceNotReachableException(e.getMessage(), e);
+		}
+	}
 
-		populateSwitchControl(stats, advancedControllableProperties, Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.MOTIONLESS_PRESET.getName(), motionlessPreset,
-				SlowPanTiltStatus.OFF.getName(), SlowPanTiltStatus.ON.getName());
+	/**
+	 * This method is used to send an inquiry when {@link #adaptivePollScheduler} says it is due, the last value is returned otherwise.
+	 * The power status and the modes which drive the rendered controls (white balance and picture modes, like the focus and
+	 * exposure modes read directly) are inquired on every call, so that a mode changed by another controller renders its controls on the next cycle.
+	 *
+	 * @param command is the command to be inquired
+	 * @param category is the category of the inquiry
+	 * @return Object the digested reply, null if the inquiry is not supported
+	 * @throws Exception if the inquiry fails
+	 */
+	private Object pollValue(Command command, PayloadCategory category) throws Exception {
+		if (command == Command.POWER || command == Command.WB_MODE || command == Command.IMAGE_MODE) {
+			return inquire(category.getCode(), command);
+		}
+		long now = System.currentTimeMillis();
+		if (!adaptivePollScheduler.isDue(command, now)) {
+			return adaptivePollScheduler.get(command);
+		}
+		Object result = inquire(category.getCode(), command);
+		adaptivePollScheduler.record(command, result, now);
+		return result;
+	}
 
-		addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.D_ZOOM_LIMIT.getName(), dZoomList, dZoomValue), dZoomValue);
-		addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.PRESET_SPEED.getName(), presetSpeedList, presetSpeedValue), presetSpeedValue);
-		addAdvancedControlProperties(advancedControllableProperties, stats, createDropdown(Command.PTZ.getName() + LumenVCTR60AConstants.HASH + Command.INITIAL_POSITION.getName(), initialPositionList, initialPosition), initialPosition);
+	/**
+	 * This method is used to get the pan/tilt position
+	 *
+	 * @return PanTiltPosition the pan/tilt position, null if not available
+	 */
+	private PanTiltPosition getPanTiltPosition() {
+		try {
+			return (PanTiltPosition) pollValue(Command.PAN_TILT_POSITION, PayloadCategory.PAN_TILTER);
+		} catch (Exception e) {
+			this.logger.error("error during get pan tilt position", e);
+			throw new ResourceNotReachableException(e.getMessage(), e);
+		}
 	}
 
 	/**
-	 * This method is used for populate slider control
+	 * This method is used to read the zoom, focus and pan/tilt positions from the device, bypassing their poll interval
 	 *
-	 * @param stats is the map that store all statistics
-	 * @param advancedControllableProperties is the list that store all controllable properties
-	 * @param propertyName is the property name of slider
-	 * @param currentPropertyName is the label for current value of property
-	 * @param propertyValue is the current value of property
-	 * @param labelStart is the label start of slider
-	 * @param labelEnd is the label end of slider
-	 * @param rangeStart is the range start of slider
-	 * @param rangeEnd is the range end of slider
-	 * @param initialValue is the initial value of slider
+	 * @return Map<String, String> the position statistics
 	 */
-	private void populateSliderControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String propertyName,
-			String currentPropertyName, String propertyValue, String labelStart, String labelEnd, float rangeStart, float rangeEnd, float initialValue) {
+	private Map<String, String> readMotionPositions() {
+		adaptivePollScheduler.reset(Command.ZOOM_POSITION, Command.FOCUS_POSITION, Command.PAN_TILT_POSITION);
+		Map<String, String> positions = new HashMap<>();
+		positions.put(Command.ZOOM.getName() + LumenVCTR60AConstants.HASH + Command.ZOOM_POSITION.getName(), getZoomPosition());
+		positions.put(Command.FOCUS_GROUP.getName() + LumenVCTR60AConstants.HASH + Command.FOCUS_POSITION.getName(), getFocusPosition());
+		populatePanTiltPosition(positions);
+		return positions;
+	}
 
-		if (Objects.equals(propertyValue, LumenVCTR60AConstants.NONE_VALUE)) {
-			stats.put(propertyName, LumenVCTR60AConstants.NONE_VALUE);
-			stats.put(currentPropertyName, LumenVCTR60AConstants.NONE_VALUE);
-			return;
+	/**
+	 * This method is used to start a burst of position reads after a move of the camera,
+	 * so that the published positions track the motion until the camera stops
+	 *
+	 * @param preset the recalled preset, -1 if the move is not a preset recall
+	 * @param recallTime timestamp the preset recall was sent, ignored for other moves
+	 * @param completion completed when {@link #movementTracker} reads the COMPLETION of the preset recall, ignored for other moves
+	 */
+	private void startMotionBurst(int preset, long recallTime, CompletableFuture<?> completion) {
+		long now = System.currentTimeMillis();
+		if (preset >= 0) {
+			long move = presetMoveTracker.start(preset, recallTime);
+			// The recall returns on ACK: the travel time and the arrival wait for the COMPLETION, timestamped when it is read
+			completion.whenComplete((reply, error) -> {
+				if (error == null) {
+					presetMoveTracker.onCompletion(move, System.currentTimeMillis());
+				} else {
+					presetMoveTracker.cancel(move);
+				}
+			});
+		} else {
+			presetMoveTracker.cancel();
 		}
-		stats.put(propertyName, String.valueOf(initialValue));
-		stats.put(currentPropertyName, propertyValue);
-		addAdvancedControlProperties(advancedControllableProperties, stats, createSlider(propertyName, labelStart, labelEnd, rangeStart, rangeEnd, initialValue), LumenVCTR60AConstants.NOT_AVAILABLE);
+		long generation = motionBurst.start(now);
+		scheduleMotionRead(generation, getPublishedPositions(), motionBurst.getMinInterval());
 	}
 
 	/**
-	 * This method is used for populate switch control
+	 * This method is used to get the positions of the latest published statistics
 	 *
-	 * @param stats is the map that store all statistics
-	 * @param advancedControllableProperties is the list that store all controllable properties
-	 * @param propertyName is the property name of switch control
-	 * @param currentStatus is the current status of switch control
-	 * @param labelOff is the label off of switch control
-	 * @param labelOn is the label on of switch control
+	 * @return Map<String, String> the position statistics, null if no position has been published
 	 */
-	private void populateSwitchControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String propertyName, String currentStatus,
-			String labelOff, String labelOn) {
-		if (Objects.equals(currentStatus, LumenVCTR60AConstants.NONE_VALUE)) {
-			stats.put(propertyName, LumenVCTR60AConstants.NOT_AVAILABLE);
-			return;
+	private Map<String, String> getPublishedPositions() {
+		ExtendedStatistics published = localExtendedStatistics.get();
+		if (published == null) {
+			return null;
 		}
-
-		if (Objects.equals(currentStatus, labelOn)) {
-			stats.put(propertyName, String.valueOf(1));
-			addAdvancedControlProperties(advancedControllableProperties, stats, createSwitch(propertyName, 1, labelOff, labelOn), currentStatus);
-		} else if (Objects.equals(currentStatus, labelOff)) {
-			stats.put(propertyName, String.valueOf(0));
-			addAdvancedControlProperties(advancedControllableProperties, stats, createSwitch(propertyName, 0, labelOff, labelOn), currentStatus);
+		Map<String, String> positions = new HashMap<>();
+		for (String key : Arrays.asList(Command.ZOOM.getName() + LumenVCTR60AConstants.HASH + Command.ZOOM_POSITION.getName(),
+				Command.FOCUS_GROUP.getName() + LumenVCTR60AConstants.HASH + Command.FOCUS_POSITION.getName(),
+				Command.PAN_TILT_DRIVE.getName() + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.PAN_POSITION,
+				Command.PAN_TILT_DRIVE.getName() + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.TILT_POSITION)) {
+			String value = published.getStatistics().get(key);
+			if (value == null) {
+				return null;
+			}
+			positions.put(key, value);
 		}
+		return positions;
 	}
 
 	/**
-	 * This method is used for populate button control
+	 * This method is used to populate the arrival and travel times of the recalled presets
 	 *
 	 * @param stats is the map that store all statistics
-	 * @param advancedControllableProperties is the list that store all controllable properties
-	 * @param propertyName is the property name of button control
-	 * @param buttonLabel is the label of button control
 	 */
-	private void populateButtonControl(Map<String, String> stats, List<AdvancedControllableProperty> advancedControllableProperties, String propertyName, String buttonLabel) {
-		stats.put(propertyName, LumenVCTR60AConstants.NOT_AVAILABLE);
-		advancedControllableProperties.add(createButton(propertyName, buttonLabel));
+	private void populatePresetMoveStatistics(Map<String, String> stats) {
+		int preset = presetMoveTracker.getPreset();
+		if (preset == -1) {
+			return;
+		}
+		String prefix = Command.PRESET.getName() + LumenVCTR60AConstants.HASH;
+		stats.put(prefix + LumenVCTR60AConstants.PRESET_LAST_RECALLED, String.valueOf(preset));
+		stats.put(prefix + LumenVCTR60AConstants.PRESET_ARRIVED, String.valueOf(presetMoveTracker.isArrived()));
+		long travelTime = presetMoveTracker.getLastTravelTime();
+		stats.put(prefix + LumenVCTR60AConstants.PRESET_LAST_TRAVEL_TIME, travelTime < 0 ? LumenVCTR60AConstants.NOT_AVAILABLE : String.valueOf(travelTime));
+		presetMoveTracker.getHistograms().forEach((recalled, histogram) ->
+				stats.put(prefix + LumenVCTR60AConstants.PRESET_TRAVEL_TIMES + recalled, PresetMoveTracker.formatHistogram(histogram)));
 	}
-	//--------------------------------------------------------------------------------------------------------------------------------
-	//endregion
 
-	//region Get current value from device
-	//--------------------------------------------------------------------------------------------------------------------------------
+	/**
+	 * Retrieves the arrival of the camera at the last recalled preset, so that automation can sequence shots on the actual arrival
+	 *
+	 * @return CompletableFuture completed with the travel time in milliseconds once the positions are stable,
+	 * or completed exceptionally if another move superseded the recall or the positions could not be read
+	 */
+	public CompletableFuture<Long> getPresetArrival() {
+		return presetMoveTracker.getArrival();
+	}
 
 	/**
-	 * This method is used to get the monitoring capabilities
+	 * This method is used to schedule the next position read of a burst
 	 *
-	 * @return String This returns the monitoring capabilities of device
+	 * @param generation the generation of the burst
+	 * @param previousPositions the positions read by the previous read of the burst, null for the first read
+	 * @param delay delay in milliseconds before the read
 	 */
-	private String retrieveDeviceInfo(String key, byte category, Command expectedCommand) {
+	private void scheduleMotionRead(long generation, Map<String, String> previousPositions, long delay) {
+		ScheduledExecutorService scheduler = motionBurstScheduler;
+		if (scheduler == null) {
+			motionBurst.stop(generation);
+			return;
+		}
 		try {
-			int seq = nextSequence();
-			byte[] packet = buildSendPacket(cameraIDInt, seq, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), category, expectedCommand.getCode());
-			byte[] resp = send(packet);
-			String result = (String) digestResponse(resp, seq, CommandType.INQUIRY, expectedCommand);
-			return result != null ? result : LumenVCTR60AConstants.NONE_VALUE;
-		} catch (Exception e) {
-			if (logger.isErrorEnabled()) {
-				logger.error("Error getting " + key, e);
-			}
-			throw new ResourceNotReachableException(e.getMessage(), e);
+			scheduler.schedule(() -> readMotion(generation, previousPositions), delay, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			motionBurst.stop(generation);
 		}
 	}
 
-	private <T> String getValueByCommand(Command command, PayloadCategory category, Class<T> responseType, String logMessage, Function<T, String> mapper) {
+	/**
+	 * This method is used to read the positions during a burst and publish the ones that changed.
+	 * The reads are queued on the event loop as inquiries, so a control sent during the burst runs first.
+	 *
+	 * @param generation the generation of the burst
+	 * @param previousPositions the positions read by the previous read of the burst, null for the first read
+	 */
+	private void readMotion(long generation, Map<String, String> previousPositions) {
+		if (!motionBurst.isCurrent(generation)) {
+			return;
+		}
+		Map<String, String> positions;
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum,
-							PayloadType.INQUIRY.getCode(),
-							CommandType.INQUIRY.getCode(),
-							category.getCode(),
-							command.getCode()));
-
-			Object rawResult = digestResponse(response, currentSeqNum, CommandType.INQUIRY, command);
-			T result = responseType.cast(rawResult);
-
-			if (result == null) {
-				return LumenVCTR60AConstants.NOT_AVAILABLE;
-			}
-			return mapper.apply(result);
-
+			positions = callWithBackpressure(DeviceEventLoop.Priority.INQUIRY, this::readMotionPositions);
 		} catch (Exception e) {
-			this.logger.error("error during get " + logMessage, e);
-			throw new ResourceNotReachableException(e.getMessage(), e);
+			motionBurst.stop(generation);
+			presetMoveTracker.cancel();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Position burst of " + this.getHost() + " stopped: " + e.getMessage());
+			}
+			return;
 		}
+		long now = System.currentTimeMillis();
+		boolean changed = !positions.equals(previousPositions);
+		if (changed) {
+			presetMoveTracker.onMotion(now);
+		}
+		long delay = motionBurst.next(generation, changed, now);
+		if (delay >= 0) {
+			if (changed) {
+				localExtendedStatistics.applyDelta(positions, Collections.emptyList());
+			}
+			scheduleMotionRead(generation, positions, delay);
+			return;
+		}
+		// The burst is over: the camera is still, unless it timed out while still moving
+		if (changed) {
+			presetMoveTracker.cancel();
+		} else {
+			presetMoveTracker.onStable();
+		}
+		Map<String, String> statistics = new HashMap<>(positions);
+		populatePresetMoveStatistics(statistics);
+		localExtendedStatistics.applyDelta(statistics, Collections.emptyList());
 	}
 
 	/**
@@ -1671,11 +3268,7 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	 */
 	private FocusMode getFocusStatus() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.FOCUS_MODE.getCode()));
-
-			FocusMode mode = (FocusMode) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.FOCUS_MODE);
+			FocusMode mode = (FocusMode) inquire(PayloadCategory.CAMERA.getCode(), Command.FOCUS_MODE);
 
 			if (mode == null) {
 				return FocusMode.AUTO;
@@ -1695,11 +3288,7 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	 */
 	private ExposureMode getExposureMode() {
 		try {
-			int currentSeqNum = ++sequenceNumber;
-			byte[] response = send(
-					buildSendPacket(cameraIDInt, currentSeqNum, PayloadType.INQUIRY.getCode(), CommandType.INQUIRY.getCode(), PayloadCategory.CAMERA.getCode(), Command.EXPOSURE_MODE.getCode()));
-
-			ExposureMode mode = (ExposureMode) digestResponse(response, currentSeqNum, CommandType.INQUIRY, Command.EXPOSURE_MODE);
+			ExposureMode mode = (ExposureMode) inquire(PayloadCategory.CAMERA.getCode(), Command.EXPOSURE_MODE);
 
 			if (mode == null) {
 				return ExposureMode.FULL_AUTO;
@@ -1727,6 +3316,41 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		}
 	}
 
+	/**
+	 * Schedules the STOP of a pan/tilt drive after {@link LumenVCTR60AConstants#PAN_TILT_DRIVE_DURATION}, as a control of its own
+	 * on the event loop, so that the drive never holds the event loop while the camera moves.
+	 * A later drive replaces the STOP of the previous one.
+	 *
+	 * @param panSpeed  the speed value for the pan axis
+	 * @param tiltSpeed the speed value for the tilt axis
+	 */
+	private void schedulePanTiltStop(int panSpeed, int tiltSpeed) {
+		ScheduledFuture<?> previousStop = panTiltStop;
+		if (previousStop != null) {
+			previousStop.cancel(false);
+		}
+		Runnable stop = () -> {
+			try {
+				callWithBackpressure(DeviceEventLoop.Priority.CONTROL, () -> {
+					sendPanTiltDriveCommand(PanTiltDrive.STOP, panSpeed, tiltSpeed);
+					return null;
+				});
+			} catch (Exception e) {
+				this.logger.error("error during pan/tilt drive stop", e);
+			}
+		};
+		ScheduledExecutorService scheduler = motionBurstScheduler;
+		if (scheduler != null) {
+			try {
+				panTiltStop = scheduler.schedule(stop, LumenVCTR60AConstants.PAN_TILT_DRIVE_DURATION, TimeUnit.MILLISECONDS);
+				return;
+			} catch (RejectedExecutionException e) {
+				// The adapter is being destroyed, the camera is stopped right away
+			}
+		}
+		stop.run();
+	}
+
 	//--------------------------------------------------------------------------------------------------------------------------------
 	//endregion
 
@@ -1740,6 +3364,7 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	@Override
 	protected byte[] internalSend(byte[] outputData) throws IOException {
 		DatagramPacket request = new DatagramPacket(outputData, outputData.length, this.address, this.port);
+		exchangeStartTime = System.currentTimeMillis();
 		this.write(request);
 
 		// If send command power off -> device return nothing -> no need wait to receive
@@ -1751,6 +3376,228 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		return this.read(outputData);
 	}
 
+	/**
+	 * {@inheritdoc}
+	 * Commands pipelined by a batch are drained first, so that a synchronous exchange never reads their replies
+	 *
+	 * @param data This is a byte array of command to be sent
+	 * @return byte[] This returns the response receive from device
+	 */
+	@Override
+	protected byte[] send(byte[] data) throws Exception {
+		if (commandPipeline != null && eventLoop.inEventLoop() && commandPipeline.getOutstandingCount() > 0) {
+			commandPipeline.drain();
+		}
+		if (circuitBreaker.isOpen()) {
+			throw new CircuitOpenException(this.getHost());
+		}
+		return exchange(data);
+	}
+
+	/**
+	 * This method is used to send a request and read its reply in a single attempt.
+	 * UDPCommunicator#send re-sends the same packet once on any failure, which must never happen to control commands:
+	 * inquiries are retransmitted by inquire() instead.
+	 * The exchange runs on the {@link #eventLoop}, commands before inquiries.
+	 *
+	 * @param data This is a byte array of command to be sent
+	 * @return byte[] This returns the response receive from device
+	 * @throws IOException if the request cannot be sent
+	 */
+	private byte[] exchange(byte[] data) throws IOException {
+		DeviceEventLoop.Priority priority = data[1] == PayloadType.INQUIRY.getCode() ? DeviceEventLoop.Priority.INQUIRY : DeviceEventLoop.Priority.CONTROL;
+		return onEventLoop(priority, () -> {
+			connect();
+			return internalSend(data);
+		});
+	}
+
+	/**
+	 * This method is used to run a socket operation on the {@link #eventLoop} and wait for its result
+	 *
+	 * @param priority priority of the operation
+	 * @param operation the socket operation
+	 * @param <T> type of the result
+	 * @return T the result of the operation
+	 * @throws IOException if the operation fails
+	 */
+	private <T> T onEventLoop(DeviceEventLoop.Priority priority, Callable<T> operation) throws IOException {
+		try {
+			return eventLoop.call(priority, operation);
+		} catch (IOException | RuntimeException e) {
+			throw e;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for " + this.getHost(), e);
+		} catch (Exception e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * This method is used to create a command pipeline writing and reading raw packets on the device socket
+	 *
+	 * @return CommandPipeline the pipeline with a window of {@link LumenVCTR60AConstants#COMMAND_WINDOW_SIZE} commands
+	 * and a queue of {@link LumenVCTR60AConstants#COMMAND_QUEUE_CAPACITY} commands in front of it; commands wait one RTO
+	 * for their ACK and the upper bound of the RTO for their COMPLETION
+	 */
+	private CommandPipeline createCommandPipeline() {
+		return new CommandPipeline(new PacketChannel() {
+			@Override
+			public void write(byte[] packet) throws IOException {
+				onEventLoop(DeviceEventLoop.Priority.CONTROL, () -> {
+					writePacket(packet);
+					return null;
+				});
+			}
+
+			@Override
+			public byte[] read() throws IOException {
+				byte[] packet;
+				do {
+					// The COMPLETION of a movement is consumed by the movement tracker, it never belongs to the batch
+					packet = onEventLoop(DeviceEventLoop.Priority.CONTROL, () -> readPacket());
+				} while (movementTracker.onReply(packet));
+				return packet;
+			}
+		}, sequenceGenerator::next, LumenVCTR60AConstants.COMMAND_WINDOW_SIZE, LumenVCTR60AConstants.COMMAND_QUEUE_CAPACITY,
+				LumenVCTR60AConstants.COMMAND_BUFFER_FULL_MAX_RETRIES, LumenVCTR60AConstants.COMMAND_BUFFER_FULL_BACKOFF, rttEstimator.getTimeout(), rttEstimator.getMaxTimeout());
+	}
+
+	/**
+	 * This method is used to write one packet to the device without waiting for its reply
+	 *
+	 * @param packet This is a byte array of packet to be sent
+	 * @throws IOException if the packet cannot be written
+	 */
+	private void writePacket(byte[] packet) throws IOException {
+		connect();
+		this.write(new DatagramPacket(packet, packet.length, this.address, this.port));
+	}
+
+	/**
+	 * This method is used to read one packet from the device, waiting at most one RTO
+	 *
+	 * @return byte[] This returns the packet received from device
+	 * @throws IOException if nothing is received before the RTO
+	 */
+	private byte[] readPacket() throws IOException {
+		return receive(new byte[0], System.currentTimeMillis() + rttEstimator.getTimeout());
+	}
+
+	/**
+	 * This method is used to read one packet from the device, waiting at most until the deadline
+	 *
+	 * @param command This is a byte array of command the packet is read for
+	 * @param deadline This is the timestamp after which the read times out
+	 * @return byte[] This returns the packet received from device
+	 * @throws IOException if nothing is received before the deadline
+	 */
+	private byte[] receive(byte[] command, long deadline) throws IOException {
+		while (true) {
+			try {
+				return super.read(command);
+			} catch (SocketTimeoutException e) {
+				if (System.currentTimeMillis() >= deadline) {
+					// The reply may still arrive after the request gave up on it
+					staleRepliesExpected.set(true);
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * This method is used to read the reply of a request, discarding the replies which belong to other requests
+	 * (late replies of requests which timed out, or unknown packets).
+	 * Error notifications are counted as sequence number mismatches.
+	 *
+	 * @param command This is a byte array of request the reply is read for
+	 * @param deadline This is the timestamp after which the read times out
+	 * @return byte[] This returns the reply of the request
+	 * @throws IOException if the reply is not received before the deadline or the device rejected the request
+	 */
+	private byte[] receiveReply(byte[] command, long deadline) throws IOException {
+		int expectedSequenceNumber = LumenVCTR60AUtils.getSequenceNumber(command);
+		while (true) {
+			byte[] response = receive(command, deadline);
+			boolean expected = response.length >= 8 && LumenVCTR60AUtils.getSequenceNumber(response) == expectedSequenceNumber;
+			if (LumenVCTR60AUtils.isErrorNotification(response)) {
+				sequenceMismatchCount.incrementAndGet();
+				if (expected) {
+					throw new ErrorNotificationException(this.getHost(), getHexByteString(response));
+				}
+			} else if (expected) {
+				return response;
+			} else if (movementTracker.onReply(response)) {
+				// The movement in progress completed while another request was sent
+				continue;
+			}
+			staleReplyCount.incrementAndGet();
+			staleRepliesExpected.set(true);
+			boolean late = retireLateReply(response);
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Discard %s reply %s from %s, expected sequence number %d", late ? "late" : "unknown",
+						getHexByteString(response), this.getHost(), expectedSequenceNumber));
+			}
+		}
+	}
+
+	/**
+	 * This method is used to match a discarded reply with a request which gave up on it.
+	 * The last reply of such a request (anything but its ACK) retires its sequence number from {@link #inFlightRequests}.
+	 *
+	 * @param response This is the discarded reply
+	 * @return boolean true if the reply belongs to a request sent by this adapter
+	 */
+	private boolean retireLateReply(byte[] response) {
+		if (response.length < 10 || LumenVCTR60AUtils.isControlReply(response)) {
+			return false;
+		}
+		int sequenceNumber = LumenVCTR60AUtils.getSequenceNumber(response);
+		if (!inFlightRequests.contains(sequenceNumber)) {
+			return false;
+		}
+		if (!ReplyStatus.isAck(Arrays.copyOfRange(response, 8, response.length))) {
+			inFlightRequests.complete(sequenceNumber);
+		}
+		return true;
+	}
+
+	/**
+	 * This method is used to discard the packets left in the socket by previous exchanges: timed out requests,
+	 * discarded replies or cancels which were not awaited
+	 */
+	private void drainStaleReplies() {
+		int drained = 0;
+		try {
+			drained = onEventLoop(DeviceEventLoop.Priority.INQUIRY, () -> {
+				int count = 0;
+				connect();
+				try {
+					while (count < LumenVCTR60AConstants.MAX_DRAINED_PACKETS) {
+						byte[] response = super.read(new byte[0]);
+						if (!movementTracker.onReply(response)) {
+							retireLateReply(response);
+							count++;
+						}
+					}
+				} catch (SocketTimeoutException e) {
+					// Socket is empty
+				}
+				return count;
+			});
+		} catch (Exception e) {
+			logger.debug("Failed to drain the socket of " + this.getHost() + ": " + e.getMessage());
+		}
+		if (drained > 0) {
+			staleReplyCount.addAndGet(drained);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Discarded " + drained + " stale packets from " + this.getHost());
+			}
+		}
+	}
+
 	/**
 	 * {@inheritDoc}
 	 */
@@ -1760,7 +3607,72 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 			logger.debug("Internal init is called.");
 		}
 		adapterInitializationTimestamp = System.currentTimeMillis();
+		// The socket timeout can only be set before init: the configured timeout becomes the upper bound of the RTO,
+		// the socket itself only waits one tick so that every request can use its own deadline
+		rttEstimator = new RttEstimator(Math.min(LumenVCTR60AConstants.DEFAULT_READ_TIMEOUT_MIN, configuredTimeout), configuredTimeout);
+		super.setTimeout(LumenVCTR60AConstants.READ_TIMEOUT_TICK);
+		backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "LumenVCTR60A background " + this.getHost());
+			thread.setDaemon(true);
+			return thread;
+		});
+		snapshotStore = new SnapshotStore(getDeviceFile(LumenVCTR60AConstants.SNAPSHOT_FILE_EXTENSION), backgroundExecutor);
+		capabilityCache.enablePersistence(getDeviceFile(LumenVCTR60AConstants.CAPABILITY_FILE_EXTENSION), backgroundExecutor);
 		super.internalInit();
+		motionBurstScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "LumenVCTR60A motion " + this.getHost());
+			thread.setDaemon(true);
+			return thread;
+		});
+		if (LumenVCTR60AConstants.TRUE.equalsIgnoreCase(backgroundPolling)) {
+			startBackgroundPoller();
+		}
+	}
+
+	/**
+	 * This method is used to poll the device on its own schedule, so that {@link #getMultipleStatistics()} only returns
+	 * the latest published statistics and never waits for the device
+	 */
+	private void startBackgroundPoller() {
+		Integer interval = tryParseInteger(backgroundPollingInterval, "Background polling interval", new StringBuilder());
+		long intervalMillis = (interval != null && interval > 0 ? interval : LumenVCTR60AConstants.DEFAULT_BACKGROUND_POLLING_INTERVAL) * 1000L;
+		backgroundPoller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "LumenVCTR60A poller " + this.getHost());
+			thread.setDaemon(true);
+			return thread;
+		});
+		backgroundPoller.scheduleWithFixedDelay(this::pollInBackground, 0, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The background poller is stopped, pending snapshot writes are completed in the background before the executor stops
+	 */
+	@Override
+	protected void internalDestroy() {
+		if (logger.isDebugEnabled()) {
+			logger.debug("Internal destroy is called.");
+		}
+		if (backgroundPoller != null) {
+			backgroundPoller.shutdownNow();
+			backgroundPoller = null;
+		}
+		if (motionBurstScheduler != null) {
+			motionBurstScheduler.shutdownNow();
+			motionBurstScheduler = null;
+		}
+		ScheduledFuture<?> pendingStop = panTiltStop;
+		if (pendingStop != null && pendingStop.cancel(false)) {
+			// The camera must not keep driving once the adapter is gone
+			schedulePanTiltStop(panSpeedInt, tiltSpeedInt);
+		}
+		panTiltStop = null;
+		movementTracker.clear();
+		eventLoop.shutdown();
+		if (backgroundExecutor != null) {
+			backgroundExecutor.shutdown();
+		}
+		super.internalDestroy();
 	}
 
 	/**
@@ -1802,10 +3714,6 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		return result.toString().trim();
 	}
 
-	private int nextSequence() {
-		return seqCounter.updateAndGet(i -> i == Integer.MAX_VALUE ? 0 : i + 1);
-	}
-
 	/**
 	 * {@inheritdoc}
 	 * This method is used to read data from device
@@ -1817,17 +3725,44 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 	protected byte[] read(byte[] command) throws IOException {
 		String responseString;
 		boolean hasACK = false;
+		boolean firstReply = true;
 		byte[] response;
+		// The first reply (ACK or inquiry reply) is expected within the RTO, COMPLETION may take until the upper bound
+		long deadline = exchangeStartTime + rttEstimator.getTimeout();
 
 		do {
 			try {
-				response = super.read(command);
+				response = receiveReply(command, deadline);
+				if (firstReply && !probingPowerTransition) {
+					rttEstimator.addSample(System.currentTimeMillis() - exchangeStartTime);
+					circuitBreaker.recordSuccess();
+				}
+				firstReply = false;
 				responseString = getHexByteString(response);
 
 				// If this is ACK packet, need to save to the flag to check done reading
-				if (responseString.endsWith(getHexByteString(ReplyStatus.ACK.getCode()))) {
+				if (ReplyStatus.isAck(Arrays.copyOfRange(response, 8, response.length))) {
 					hasACK = true;
+					deadline = System.currentTimeMillis() + rttEstimator.getMaxTimeout();
+					if (sendingMovement != null) {
+						// The COMPLETION is read later by whichever request reads the socket, see receiveReply
+						movementTracker.onAck(sendingMovement, LumenVCTR60AUtils.getSequenceNumber(response), ReplyStatus.getSocket(Arrays.copyOfRange(response, 8, response.length)),
+								System.currentTimeMillis());
+						return response;
+					}
+				}
+			} catch (SocketTimeoutException e) {
+				if (!probingPowerTransition) {
+					rttEstimator.onTimeout();
+					circuitBreaker.recordTimeout();
+				}
+				throw new ResourceNotReachableException(e.getMessage(), e);
+			} catch (ErrorNotificationException e) {
+				// The device is alive, only the sequence number is out of sync
+				if (!probingPowerTransition) {
+					circuitBreaker.recordSuccess();
 				}
+				throw new ResourceNotReachableException(e.getMessage(), e);
 			} catch (IOException e) {
 				throw new ResourceNotReachableException(e.getMessage());
 			} catch (Exception e) {
@@ -1836,6 +3771,7 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 
 		} while (!doneReading(command, responseString, hasACK));
 
+		inFlightRequests.complete(LumenVCTR60AUtils.getSequenceNumber(command));
 		return response;
 	}
 
@@ -1890,7 +3826,7 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 
 		// if it has ACK packet first -> Error packet, 1 Completion packet left to receive from Device
 		if (hasACK) {
-			super.read(command);
+			receiveReply(command, System.currentTimeMillis() + rttEstimator.getMaxTimeout());
 		}
 
 		throw new CommandFailureException(this.getHost(), commandString, responseString);
@@ -1913,7 +3849,7 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 		byte[] reply = Arrays.copyOfRange(response, 8, 8 + payloadLength);
 
 		if (commandType == CommandType.COMMAND) {
-			if (!Arrays.equals(ReplyStatus.COMPLETION.getCode(), reply)) {
+			if (!ReplyStatus.isCompletion(reply)) {
 				this.logger.error("error: Unexpected completion packet: " + this.host + " port: " + this.port);
 				throw new IllegalStateException("Unexpected completion packet");
 			}
@@ -1946,9 +3882,11 @@ public class LumenVCTR60ACommunicator extends UDPCommunicator implements Control
 
 	/**
 	 * Updates devices control value, after the control command was executed with the specified value.
+	 * The published controllable property is not modified: the value is recorded in the changes of the control,
+	 * and the property is replaced when the changes are applied.
 	 *
-	 * @param stats the stats are list of Statistics
-	 * @param advancedControllableProperties the advancedControllableProperty are AdvancedControllableProperty instance
+	 * @param stats the changed statistics of the control
+	 * @param advancedControllableProperties the changed controllable properties of the control
 	 * @param name of the control property
 	 * @param value to set to the control property
 	 */
@@ -16,13 +16,14 @@ import java.util.List;
  */
 public class LumenVCTR60AConstants {
 	public static final byte BYTE_SUFFIX = (byte) 0xFF;
+	public static final byte CANCEL = 0x20; // VISCA Cancel, the low nibble is the socket to cancel
+	public static final int COMMAND_SOCKETS = 2;
 	public static final String HASH = "#";
 	public static final String LABEL_END_HUE_LEVEL = "14";
 	public static final float RANGE_START_HUE_LEVEL = 0F;
 	public static final float RANGE_END_HUE_LEVEL = 14F;
 	public static final String SWITCH_STATUS_ON = "1";
 	public static final String SWITCH_STATUS_OFF = "0";
-	public static final long DELAY_PERIOD = 45000;
 	public static final String PLUS = "+";
 	public static final String MINUS = "-";
 	public static final String CLOSE_PARENTHESIS = "\\)";
@@ -32,6 +33,36 @@ public class LumenVCTR60AConstants {
 	public static final int FOCUS_STEP = 10;
 	public static final int FOCUS_MIN = 0x0000; // Far
 	public static final int FOCUS_MAX = 0x131A; // Near
+	public static final int COMMAND_WINDOW_SIZE = 2; // VISCA command sockets of the camera
+	public static final int READ_TIMEOUT_TICK = 50; // Socket timeout, the request deadline is checked on each tick
+	public static final int DEFAULT_READ_TIMEOUT_MIN = 200;
+	public static final int DEFAULT_READ_TIMEOUT_MAX = 4000;
+	public static final int INQUIRY_MAX_ATTEMPTS = 3;
+	public static final long INQUIRY_RETRANSMISSION_BACKOFF = 50;
+	public static final int CIRCUIT_BREAKER_THRESHOLD = 6; // Consecutive timeouts, i.e. two inquiries lost after all attempts
+	public static final int IN_FLIGHT_REQUESTS_CAPACITY = 16;
+	public static final int MAX_DRAINED_PACKETS = 64;
+	public static final int SEQUENCE_MISMATCH_THRESHOLD = 3;
+	public static final int COMMAND_QUEUE_CAPACITY = 16;
+	public static final int COMMAND_BUFFER_FULL_MAX_RETRIES = 3;
+	public static final long COMMAND_BUFFER_FULL_BACKOFF = 100;
+	public static final long POWER_PROBE_INITIAL_DELAY = 1000;
+	public static final long POWER_PROBE_MAX_DELAY = 8000;
+	public static final long POWER_TRANSITION_TIMEOUT = 90000;
+	public static final long DEVICE_INFO_TTL = 1800000; // 30 minutes, network properties and identity keys
+	public static final int DEFAULT_STANDBY_POLLING_INTERVAL = 300; // Seconds between two power status polls of a camera in standby
+	public static final int DEFAULT_BACKGROUND_POLLING_INTERVAL = 30; // Seconds between two polls of the background poller
+	public static final String SNAPSHOT_DIRECTORY_NAME = "lumens-vctr60a";
+	public static final String SNAPSHOT_FILE_EXTENSION = ".snapshot";
+	public static final String CAPABILITY_FILE_EXTENSION = ".capabilities";
+	public static final long ADAPTIVE_POLL_MIN_INTERVAL = 30000; // Interval after the first unchanged read, doubled by every further one
+	public static final int DEFAULT_MAX_PROPERTY_STALENESS = 3600; // Seconds, maximum poll interval of a property that does not change
+	public static final long MOTION_BURST_MIN_INTERVAL = 250; // Position reads while the camera moves
+	public static final long MOTION_BURST_MAX_INTERVAL = 2000; // The camera is considered still beyond this interval
+	public static final long MOTION_BURST_MAX_DURATION = 30000;
+	public static final long PAN_TILT_DRIVE_DURATION = 1000; // Delay between a pan/tilt drive and its STOP
+	public static final long MOVEMENT_WATCH_INTERVAL = 500; // Socket reads for the completion of a movement when nothing else reads it
+	public static final long MOVEMENT_COMPLETION_TIMEOUT = 30000;
 
 	public static final String NONE_VALUE = "None";
 	public static final String NULL = "Null";
@@ -48,6 +79,30 @@ public class LumenVCTR60AConstants {
 	public static final String ADAPTER_UPTIME_MIN = "AdapterUptime(min)";
 	public static final String ADAPTER_UPTIME = "AdapterUptime";
 
+	public static final String COMMUNICATION = "Communication";
+	public static final String READ_TIMEOUT = "ReadTimeout(ms)";
+	public static final String SMOOTHED_RTT = "SmoothedRTT(ms)";
+	public static final String RETRANSMISSIONS = "Retransmissions";
+	public static final String CIRCUIT_STATE = "CircuitState";
+	public static final String STALE_REPLIES = "StaleReplies";
+	public static final String SEQUENCE_RESETS = "SequenceResets";
+	public static final String BUFFER_FULL_RETRIES = "BufferFullRetries";
+	public static final String UNSUPPORTED_COMMANDS = "UnsupportedCommands";
+	public static final String CONTROL_QUEUE_DELAY = "ControlQueueDelay(ms)";
+	public static final String STALE_DATA = "StaleData";
+	public static final String SNAPSHOT_TIMESTAMP = "SnapshotTimestamp";
+	public static final String GROUP_ERROR = "Error";
+	public static final String GROUP_LAST_UPDATE = "LastUpdate";
+	public static final String DEFERRED_GROUPS = "DeferredGroups";
+	public static final String SLOWED_INQUIRIES = "SlowedInquiries";
+	public static final String CANCELLED_MOVES = "CancelledMoves";
+	public static final String PAN_POSITION = "PanPosition";
+	public static final String TILT_POSITION = "TiltPosition";
+	public static final String PRESET_LAST_RECALLED = "LastRecalled";
+	public static final String PRESET_ARRIVED = "Arrived";
+	public static final String PRESET_LAST_TRAVEL_TIME = "LastTravelTime(ms)";
+	public static final String PRESET_TRAVEL_TIMES = "TravelTimes";
+
 	protected static final byte[] FAKE_COMPLETION = new byte[] { 0x01, 0x11, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x51, (byte) 0xFF };
 	protected static final List<String> SHUTTER_VALUES = new ArrayList<>(
 			Arrays.asList("1/10000", "1/5000", "1/3000", "1/2500", "1/2000", "1/1500", "1/1000", "1/725", "1/500", "1/350", "1/250", "1/180", "1/120", "1/100", "1/90", "1/60", "1/30"));
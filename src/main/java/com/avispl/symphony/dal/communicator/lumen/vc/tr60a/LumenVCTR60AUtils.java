@@ -5,8 +5,12 @@ package com.avispl.symphony.dal.communicator.lumen.vc.tr60a;
 
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.ControlPayload;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.ControlPayloadType;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.PayloadType;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.Prefix;
 
 /**
@@ -14,6 +18,9 @@ import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.Prefix;
  * <li>Build a send string for command to be sent</li>
  * <li>Split 1 int number to byte number array (4 bytes)</li>
  * <li>Split 1 byte number to byte number array (2 bytes)</li>
+ * <li>Read and replace the sequence number in a packet header</li>
+ * <li>Build and recognize VISCA-over-IP control messages</li>
+ * <li>Build the VISCA Cancel of a command socket</li>
  *
  * @author Harry
  * @version 1.0.0
@@ -121,6 +128,109 @@ public class LumenVCTR60AUtils {
 		return ByteBuffer.allocate(4).putInt(number).array();
 	}
 
+	/**
+	 * This method is used to read the sequence number (4 bytes, big endian) from the header of a packet
+	 *
+	 * @param packet This is the byte array representing the packet sent to or received from the device
+	 * @return int This returns the sequence number of the packet
+	 */
+	public static int getSequenceNumber(byte[] packet) {
+		if (packet == null || packet.length < 8) {
+			throw new IllegalArgumentException("Packet is too short to contain a sequence number");
+		}
+		return ByteBuffer.wrap(packet, 4, 4).getInt();
+	}
+
+	/**
+	 * This method is used to replace the sequence number (4 bytes, big endian) in the header of a packet to be re-sent
+	 *
+	 * @param packet This is the byte array representing the packet to be sent to the device
+	 * @param sequenceNumber This is the new sequence number of the packet
+	 */
+	public static void setSequenceNumber(byte[] packet, int sequenceNumber) {
+		if (packet == null || packet.length < 8) {
+			throw new IllegalArgumentException("Packet is too short to contain a sequence number");
+		}
+		ByteBuffer.wrap(packet, 4, 4).putInt(sequenceNumber);
+	}
+
+	/**
+	 * This method is used to build a control command (e.g. RESET of the sequence number)
+	 * The packet structure:
+	 * <pre>
+	 * [0x02 0x00][Payload Length][Sequence Number (4 bytes)][Control Payload...]
+	 * </pre>
+	 * @param sequenceNumber This is the int value representing the sequence number of command to be sent
+	 * @param controlPayload This is the control payload to be sent
+	 * @return byte[] This returns the array to be sent to the device
+	 */
+	public static byte[] buildControlPacket(int sequenceNumber, ControlPayload controlPayload) {
+		byte[] payload = controlPayload.getCode();
+		ByteBuffer buffer = ByteBuffer.allocate(8 + payload.length);
+		buffer.put(Prefix.CONTROL.getPrefixCode());
+		buffer.put(ControlPayloadType.CONTROL_COMMAND.getCode());
+		buffer.putShort((short) payload.length);
+		buffer.putInt(sequenceNumber);
+		buffer.put(payload);
+		return buffer.array();
+	}
+
+	/**
+	 * This method is used to build the VISCA Cancel of the command executed on a socket
+	 * The packet structure:
+	 * <pre>
+	 * [0x01 0x00][Payload Length][Sequence Number (4 bytes)][8x 2p FF]
+	 * </pre>
+	 * @param cameraID This is int value representing the camera ID
+	 * @param sequenceNumber This is the int value representing the sequence number of the packet
+	 * @param socket This is the socket number of the command to be cancelled
+	 * @return byte[] This returns the array to be sent to the device
+	 */
+	public static byte[] buildCancelPacket(int cameraID, int sequenceNumber, int socket) {
+		byte[] payload = { (byte) (Prefix.COMMAND.getPrefixCode() + cameraID), (byte) (LumenVCTR60AConstants.CANCEL | socket), LumenVCTR60AConstants.BYTE_SUFFIX };
+		ByteBuffer buffer = ByteBuffer.allocate(8 + payload.length);
+		buffer.put(Prefix.PAYLOAD_TYPE.getPrefixCode());
+		buffer.put(PayloadType.COMMAND.getCode());
+		buffer.putShort((short) payload.length);
+		buffer.putInt(sequenceNumber);
+		buffer.put(payload);
+		return buffer.array();
+	}
+
+	/**
+	 * This method is used to check if a device information value is a placeholder rendered when the value could not be read
+	 *
+	 * @param value This is the value to be checked
+	 * @return boolean This returns true if the value is null, empty, {@link LumenVCTR60AConstants#NONE_VALUE} or {@link LumenVCTR60AConstants#NOT_AVAILABLE}
+	 */
+	public static boolean isPlaceholder(String value) {
+		return value == null || value.trim().isEmpty() || LumenVCTR60AConstants.NONE_VALUE.equals(value) || LumenVCTR60AConstants.NOT_AVAILABLE.equals(value);
+	}
+
+	/**
+	 * This method is used to check if a packet is a control reply
+	 *
+	 * @param packet This is the byte array representing the packet received from the device
+	 * @return boolean This returns true if the packet is a control reply
+	 */
+	public static boolean isControlReply(byte[] packet) {
+		return packet != null && packet.length >= 8 && packet[0] == Prefix.CONTROL.getPrefixCode() && packet[1] == ControlPayloadType.CONTROL_REPLY.getCode();
+	}
+
+	/**
+	 * This method is used to check if a packet is an error notification (abnormal sequence number or message type)
+	 *
+	 * @param packet This is the byte array representing the packet received from the device
+	 * @return boolean This returns true if the packet is an error notification
+	 */
+	public static boolean isErrorNotification(byte[] packet) {
+		if (!isControlReply(packet)) {
+			return false;
+		}
+		byte[] payload = Arrays.copyOfRange(packet, 8, packet.length);
+		return Arrays.equals(ControlPayload.SEQUENCE_NUMBER_ERROR.getCode(), payload) || Arrays.equals(ControlPayload.MESSAGE_ERROR.getCode(), payload);
+	}
+
 	/**
 	 * This method is used to convert 1 byte number to array of 2 bytes
 	 *
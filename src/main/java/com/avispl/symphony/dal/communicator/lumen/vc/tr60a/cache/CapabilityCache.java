@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.cache;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Executor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AUtils;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command.Command;
+
+/**
+ * This class is used to remember the inquiries a device rejected as unsupported (syntax error or command not executable),
+ * so that they are not sent again until the firmware of the device changes.
+ * The cache can be persisted to a properties file to survive restarts:
+ * <pre>
+ * firmware=[firmware version]
+ * unsupported=[category]/[command],...
+ * </pre>
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CapabilityCache {
+	private static final String FIRMWARE_KEY = "firmware";
+	private static final String UNSUPPORTED_KEY = "unsupported";
+	private static final String SEPARATOR = ",";
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final Set<String> unsupportedCommands = new TreeSet<>();
+	private String firmwareVersion;
+	private Path file;
+	private Executor executor;
+
+	/**
+	 * Load the cache from a file and save every change to it in the background
+	 *
+	 * @param file the capability file of the device
+	 * @param executor the executor used to write the file
+	 */
+	public synchronized void enablePersistence(Path file, Executor executor) {
+		this.file = file;
+		this.executor = executor;
+		if (!Files.isRegularFile(file)) {
+			return;
+		}
+		Properties properties = new Properties();
+		try (InputStream input = Files.newInputStream(file)) {
+			properties.load(input);
+		} catch (Exception e) {
+			logger.warn("Failed to load capabilities " + file, e);
+			return;
+		}
+		unsupportedCommands.clear();
+		firmwareVersion = properties.getProperty(FIRMWARE_KEY);
+		String unsupported = properties.getProperty(UNSUPPORTED_KEY, "");
+		Arrays.stream(unsupported.split(SEPARATOR)).map(String::trim).filter(key -> !key.isEmpty()).forEach(unsupportedCommands::add);
+	}
+
+	/**
+	 * Update the firmware version of the device. The unsupported commands recorded for another firmware version are dropped.
+	 *
+	 * @param firmwareVersion the firmware version read from the device, ignored if it is a placeholder of a failed read
+	 */
+	public synchronized void setFirmwareVersion(String firmwareVersion) {
+		if (LumenVCTR60AUtils.isPlaceholder(firmwareVersion) || Objects.equals(this.firmwareVersion, firmwareVersion)) {
+			return;
+		}
+		if (this.firmwareVersion != null && !unsupportedCommands.isEmpty()) {
+			logger.info("Firmware changed from " + this.firmwareVersion + " to " + firmwareVersion + ", unsupported commands are probed again");
+			unsupportedCommands.clear();
+		}
+		this.firmwareVersion = firmwareVersion;
+		save();
+	}
+
+	/**
+	 * Check if an inquiry has been rejected as unsupported by the current firmware
+	 *
+	 * @param category the category code of the inquiry
+	 * @param command the command of the inquiry
+	 * @return true if the inquiry must not be sent
+	 */
+	public synchronized boolean isUnsupported(byte category, Command command) {
+		return unsupportedCommands.contains(key(category, command));
+	}
+
+	/**
+	 * Record an inquiry rejected as unsupported by the current firmware
+	 *
+	 * @param category the category code of the inquiry
+	 * @param command the command of the inquiry
+	 */
+	public synchronized void markUnsupported(byte category, Command command) {
+		if (unsupportedCommands.add(key(category, command))) {
+			save();
+		}
+	}
+
+	/**
+	 * Retrieves the number of unsupported commands
+	 *
+	 * @return number of inquiries skipped for the current firmware
+	 */
+	public synchronized int size() {
+		return unsupportedCommands.size();
+	}
+
+	/**
+	 * Write the cache to a temporary file in the background and move it over the capability file
+	 */
+	private void save() {
+		if (file == null) {
+			return;
+		}
+		Properties properties = new Properties();
+		if (firmwareVersion != null) {
+			properties.setProperty(FIRMWARE_KEY, firmwareVersion);
+		}
+		properties.setProperty(UNSUPPORTED_KEY, String.join(SEPARATOR, unsupportedCommands));
+		Path target = file;
+		executor.execute(() -> {
+			try {
+				Files.createDirectories(target.toAbsolutePath().getParent());
+				Path temporaryFile = target.resolveSibling(target.getFileName() + ".tmp");
+				try (OutputStream output = Files.newOutputStream(temporaryFile)) {
+					properties.store(output, null);
+				}
+				Files.move(temporaryFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} catch (Exception e) {
+				logger.warn("Failed to save capabilities " + target + ": " + e.getMessage());
+			}
+		});
+	}
+
+	private static String key(byte category, Command command) {
+		return String.format("%02X/%s", category, command.name());
+	}
+}
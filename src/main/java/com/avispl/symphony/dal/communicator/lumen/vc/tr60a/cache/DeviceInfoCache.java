@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.cache;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AUtils;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.GeneralProperty;
+
+/**
+ * This class is used to cache the general properties of a device according to their {@link com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.RefreshPolicy}.
+ * Firmware version and MAC address identify the device: when one of them changes, every cached property is dropped.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DeviceInfoCache {
+	/**
+	 * Properties whose change means the device was updated or replaced
+	 */
+	public static final Set<GeneralProperty> IDENTITY_KEYS = Collections.unmodifiableSet(EnumSet.of(GeneralProperty.FIRMWARE_VERSION, GeneralProperty.MAC_ADDRESS));
+
+	private final long timeToLive;
+	private final Map<GeneralProperty, String> values = new EnumMap<>(GeneralProperty.class);
+	private final Map<GeneralProperty, Long> fetchTimestamps = new EnumMap<>(GeneralProperty.class);
+
+	/**
+	 * Constructs an empty cache
+	 *
+	 * @param timeToLive time to live in milliseconds of the properties with the TTL policy
+	 */
+	public DeviceInfoCache(long timeToLive) {
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Check if a property can be served from the cache
+	 *
+	 * @param property the general property
+	 * @param now current timestamp
+	 * @return true if the cached value does not need to be read again
+	 */
+	public synchronized boolean isFresh(GeneralProperty property, long now) {
+		Long fetchTimestamp = fetchTimestamps.get(property);
+		if (fetchTimestamp == null) {
+			return false;
+		}
+		switch (property.refreshPolicy()) {
+			case CONNECTION:
+				return true;
+			case TTL:
+				return now - fetchTimestamp < timeToLive;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Store a property read from the device. A different firmware version or MAC address drops every cached property first.
+	 * A placeholder read for an identity property never replaces its known value, it is read again on the next cycle.
+	 *
+	 * @param property the general property
+	 * @param value the value read from the device
+	 * @param now current timestamp
+	 * @return true if the cache has been invalidated by this value
+	 */
+	public synchronized boolean update(GeneralProperty property, String value, long now) {
+		boolean invalidated = false;
+		if (IDENTITY_KEYS.contains(property) && LumenVCTR60AUtils.isPlaceholder(value) && !LumenVCTR60AUtils.isPlaceholder(values.get(property))) {
+			return false;
+		}
+		if (IDENTITY_KEYS.contains(property) && values.containsKey(property) && !LumenVCTR60AUtils.isPlaceholder(values.get(property))
+				&& !Objects.equals(values.get(property), value)) {
+			invalidate();
+			invalidated = true;
+		}
+		values.put(property, value);
+		fetchTimestamps.put(property, now);
+		return invalidated;
+	}
+
+	/**
+	 * Retrieves the cached value of a property
+	 *
+	 * @param property the general property
+	 * @return the cached value or null
+	 */
+	public synchronized String get(GeneralProperty property) {
+		return values.get(property);
+	}
+
+	/**
+	 * Drop every cached property, e.g. after the device reconnected
+	 */
+	public synchronized void invalidate() {
+		values.clear();
+		fetchTimestamps.clear();
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.PollingGroup;
+
+/**
+ * This class is used to keep the last values collected successfully for each {@link PollingGroup},
+ * so that a group which fails in a cycle can still be rendered, marked as stale.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class GroupResultCache {
+	private final Map<PollingGroup, Result> results = new EnumMap<>(PollingGroup.class);
+
+	/**
+	 * Store the values of a group collected successfully
+	 *
+	 * @param group the polling group
+	 * @param statistics the statistics of the group
+	 * @param controls the controllable properties of the group
+	 * @param now current timestamp
+	 */
+	public synchronized void update(PollingGroup group, Map<String, String> statistics, List<AdvancedControllableProperty> controls, long now) {
+		results.put(group, new Result(now, statistics, controls));
+	}
+
+	/**
+	 * Retrieves the last values collected successfully for a group
+	 *
+	 * @param group the polling group
+	 * @return Result the last good values or null if the group has never been collected
+	 */
+	public synchronized Result get(PollingGroup group) {
+		return results.get(group);
+	}
+
+	/**
+	 * Last values collected successfully for a group
+	 */
+	public static class Result {
+		private final long timestamp;
+		private final Map<String, String> statistics;
+		private final List<AdvancedControllableProperty> controls;
+
+		Result(long timestamp, Map<String, String> statistics, List<AdvancedControllableProperty> controls) {
+			this.timestamp = timestamp;
+			this.statistics = Collections.unmodifiableMap(new HashMap<>(statistics));
+			this.controls = Collections.unmodifiableList(new ArrayList<>(controls));
+		}
+
+		/**
+		 * Retrieves {@code {@link #timestamp}}
+		 *
+		 * @return time the group was collected, in milliseconds
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * Retrieves {@code {@link #statistics}}
+		 *
+		 * @return statistics of the group
+		 */
+		public Map<String, String> getStatistics() {
+			return statistics;
+		}
+
+		/**
+		 * Retrieves {@code {@link #controls}}
+		 *
+		 * @return controllable properties of the group
+		 */
+		public List<AdvancedControllableProperty> getControls() {
+			return controls;
+		}
+	}
+}
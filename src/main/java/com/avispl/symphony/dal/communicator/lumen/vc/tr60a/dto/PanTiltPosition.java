@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.dto;
+
+/**
+ * This class is used to store the pan/tilt position of the camera:
+ *
+ * - Pan position
+ * - Tilt position
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PanTiltPosition {
+	private final int pan;
+	private final int tilt;
+
+	/**
+	 * Constructs a position
+	 *
+	 * @param pan the pan position
+	 * @param tilt the tilt position
+	 */
+	public PanTiltPosition(int pan, int tilt) {
+		this.pan = pan;
+		this.tilt = tilt;
+	}
+
+	/**
+	 * Retrieves {@code {@link #pan}}
+	 *
+	 * @return value of {@link #pan}
+	 */
+	public int getPan() {
+		return pan;
+	}
+
+	/**
+	 * Retrieves {@code {@link #tilt}}
+	 *
+	 * @return value of {@link #tilt}
+	 */
+	public int getTilt() {
+		return tilt;
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof PanTiltPosition)) {
+			return false;
+		}
+		PanTiltPosition position = (PanTiltPosition) other;
+		return pan == position.pan && tilt == position.tilt;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * pan + tilt;
+	}
+
+	@Override
+	public String toString() {
+		return pan + "," + tilt;
+	}
+}
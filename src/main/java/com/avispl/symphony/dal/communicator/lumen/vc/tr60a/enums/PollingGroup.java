@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums;
+
+/**
+ * This class is used to define the groups of properties collected independently in a monitoring cycle,
+ * in polling priority order (power is always polled first)
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum PollingGroup {
+	EXPOSURE("Exposure", 1),
+	FOCUS("Focus", 1),
+	WHITE_BALANCE("WhiteBalance", 1),
+	PICTURE("Picture", 2),
+	ZOOM("Zoom", 2),
+	PAN_TILT("PanTilt", 2),
+	GENERAL("General", 3),
+	MIRROR("Mirror", 3),
+	PAN_TILT_ZOOM("PanTiltZoom", 3),
+	PRESET("Preset", 3);
+
+	private final String name;
+	private final int tier;
+
+	PollingGroup(String name, int tier) {
+		this.name = name;
+		this.tier = tier;
+	}
+
+	/**
+	 * Retrieves {@code {@link #name}}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves {@code {@link #tier}}
+	 *
+	 * @return polling priority of the group: 1 for active modes, 2 for values, 3 for rarely changing settings
+	 */
+	public int getTier() {
+		return tier;
+	}
+}
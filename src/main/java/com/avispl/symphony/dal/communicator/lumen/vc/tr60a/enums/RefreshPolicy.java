@@ -0,0 +1,26 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums;
+
+/**
+ * This class is used to define how often a cached device property is read again
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum RefreshPolicy {
+	/**
+	 * Read once per connection to the device
+	 */
+	CONNECTION,
+	/**
+	 * Read again when the cached value is older than the time to live
+	 */
+	TTL,
+	/**
+	 * Read on every monitoring cycle
+	 */
+	CYCLE
+}
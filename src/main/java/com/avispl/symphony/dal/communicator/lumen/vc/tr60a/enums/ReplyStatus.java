@@ -23,6 +23,9 @@ public enum ReplyStatus {
 	COMMAND_NOT_EXECUTABLE_CONTROL(new byte[] { (byte) 0x90, 0x61, 0x41, (byte) 0xFF }),
 	COMMAND_NOT_EXECUTABLE_INQUIRY(new byte[] { (byte) 0x90, 0x60, 0x41, (byte) 0xFF });
 
+	private static final int REPLY_TYPE_MASK = 0xF0;
+	private static final int SOCKET_MASK = 0x0F;
+
 	private final byte[] code;
 
 	ReplyStatus(byte[] code) {
@@ -37,4 +40,51 @@ public enum ReplyStatus {
 	public byte[] getCode() {
 		return code;
 	}
+
+	/**
+	 * Retrieves the code of this status reported for another socket. The codes above are those of socket 1.
+	 *
+	 * @param socket the socket number
+	 * @return byte[] the code with the socket number replaced
+	 */
+	public byte[] getCode(int socket) {
+		byte[] socketCode = code.clone();
+		socketCode[1] = (byte) ((socketCode[1] & REPLY_TYPE_MASK) | (socket & SOCKET_MASK));
+		return socketCode;
+	}
+
+	/**
+	 * Check if a reply is an ACK, whatever its socket
+	 *
+	 * @param reply the VISCA reply
+	 * @return true if the reply is an ACK
+	 */
+	public static boolean isAck(byte[] reply) {
+		return hasType(reply, ACK);
+	}
+
+	/**
+	 * Check if a reply is a COMPLETION without data, whatever its socket
+	 *
+	 * @param reply the VISCA reply
+	 * @return true if the reply is a COMPLETION of a command
+	 */
+	public static boolean isCompletion(byte[] reply) {
+		return hasType(reply, COMPLETION);
+	}
+
+	/**
+	 * Retrieves the socket number of a reply
+	 *
+	 * @param reply the VISCA reply
+	 * @return the socket number, 0 for the replies of inquiries
+	 */
+	public static int getSocket(byte[] reply) {
+		return reply[1] & SOCKET_MASK;
+	}
+
+	private static boolean hasType(byte[] reply, ReplyStatus status) {
+		return reply != null && reply.length == status.code.length && reply[0] == status.code[0]
+				&& (reply[1] & REPLY_TYPE_MASK) == (status.code[1] & REPLY_TYPE_MASK) && reply[2] == status.code[2];
+	}
 }
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 
 import com.avispl.symphony.dal.BaseDevice;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AConstants;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.dto.PanTiltPosition;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command.Command;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.AFFrame;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.AFSensitivity;
@@ -131,6 +132,8 @@ public class ResponseParser extends BaseDevice {
 				return getZoomLevelNameFromReply(reply);
 			case FOCUS_POSITION:
 				return getFocusPositionFromReply(reply);
+			case PAN_TILT_POSITION:
+				return getPanTiltPositionFromReply(reply);
 			default:
 				throw new IllegalStateException("Unexpected command: " + expectedCommand);
 		}
@@ -162,6 +165,18 @@ public class ResponseParser extends BaseDevice {
 		return toFocusAndZoomPositionValue(focusBytes);
 	}
 
+	/**
+	 * Extracts the pan and tilt positions from a VISCA response: four nibbles each, as signed 16-bit values.
+	 *
+	 * @param reply the complete VISCA response from the camera
+	 * @return the decoded pan/tilt position
+	 */
+	private PanTiltPosition getPanTiltPositionFromReply(byte[] reply) {
+		short pan = (short) toFocusAndZoomPositionValue(Arrays.copyOfRange(reply, 2, 6));
+		short tilt = (short) toFocusAndZoomPositionValue(Arrays.copyOfRange(reply, 6, 10));
+		return new PanTiltPosition(pan, tilt);
+	}
+
 	/**
 	 * Convert 4-byte array to a single integer (Zoom position value)
 	 *
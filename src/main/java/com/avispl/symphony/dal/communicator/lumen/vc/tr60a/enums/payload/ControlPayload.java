@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload;
+
+/**
+ * This class is used to define the payloads of VISCA-over-IP control messages
+ * (sent with the {@link Prefix#CONTROL} payload type prefix)
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ControlPayload {
+	RESET(new byte[] { 0x01 }),
+	SEQUENCE_NUMBER_ERROR(new byte[] { 0x0F, 0x01 }),
+	MESSAGE_ERROR(new byte[] { 0x0F, 0x02 });
+
+	private final byte[] code;
+
+	ControlPayload(byte[] code) {
+		this.code = code;
+	}
+
+	/**
+	 * Retrieves {@code {@link #code}}
+	 *
+	 * @return value of {@link #code}
+	 */
+	public byte[] getCode() {
+		return code;
+	}
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload;
+
+/**
+ * This class is used to define control payload type
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ControlPayloadType {
+	CONTROL_COMMAND((byte) 0x00),
+	CONTROL_REPLY((byte) 0x01);
+
+	private final byte code;
+
+	ControlPayloadType(byte code) {
+		this.code = code;
+	}
+
+	/**
+	 * Retrieves {@code {@link #code}}
+	 *
+	 * @return value of {@link #code}
+	 */
+	public byte getCode() {
+		return code;
+	}
+}
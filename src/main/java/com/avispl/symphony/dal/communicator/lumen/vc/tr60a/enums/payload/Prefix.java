@@ -12,6 +12,7 @@ package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload;
  */
 public enum Prefix {
 	PAYLOAD_TYPE((byte) 0x01),
+	CONTROL((byte) 0x02),
 	COMMAND((byte) 0x80);
 
 	private final byte code;
@@ -103,6 +103,7 @@ public enum Command {
 	PRESET( "", "PresetControl", new byte[] { 0x3F }),
 	PAN_TILT_DRIVE( "", "PanTiltControl", new byte[] { 0x01 }),
 	PAN_TILT_HOME( "", "Home", new byte[] { 0x04 }),
+	PAN_TILT_POSITION( "", "PanTiltPosition", new byte[] { 0x12 }),
 	FIRMWARE_VERSION( "", "FirmwareVersion", new byte[] { (byte) 0xCF }),
 	SERIAL_NUMBER( "", "SerialNumber", new byte[] { 0x18 }),
 	MAC_ADDRESS( "", "MACAddress", new byte[] { 0x78 }),
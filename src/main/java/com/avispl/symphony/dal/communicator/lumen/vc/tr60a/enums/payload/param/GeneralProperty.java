@@ -3,6 +3,7 @@
  */
 package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param;
 
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.RefreshPolicy;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.PayloadCategory;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command.Command;
 
@@ -14,19 +15,20 @@ import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command
  * @since 1.0.0
  */
 public enum GeneralProperty {
-	FIRMWARE_VERSION("FirmwareVersion", PayloadCategory.FIRMWARE.getCode(), Command.FIRMWARE_VERSION),
-	SERIAL_NUMBER("SerialNumber", PayloadCategory.SERIAL.getCode(), Command.SERIAL_NUMBER),
-	MAC_ADDRESS("MACAddress", PayloadCategory.CAMERA.getCode(), Command.MAC_ADDRESS),
-	CAMERA_ID("CameraID", PayloadCategory.CAMERA_ID.getCode(), Command.CAMERA_ID),
-	SYSTEM_DHCP("DHCP", PayloadCategory.SYSTEM.getCode(), Command.DHCP),
-	IPV4_ADDRESS( "IPv4Address", PayloadCategory.SYSTEM.getCode(), Command.IPV4_ADDRESS),
-	IPV4_NETMASK( "IPv4Netmask", PayloadCategory.SYSTEM.getCode(), Command.IPV4_NETMASK),
-	SYSTEM_GATEWAY("Gateway", PayloadCategory.SYSTEM.getCode(), Command.GATEWAY),
-	SYSTEM_DNS("DNS", PayloadCategory.SYSTEM.getCode(), Command.DNS),
-	SYSTEM_TRACKING_LED("TrackingLedStatus", PayloadCategory.TRACKING.getCode(), Command.TRACKING_LED_STATUS);
+	FIRMWARE_VERSION("FirmwareVersion", PayloadCategory.FIRMWARE.getCode(), Command.FIRMWARE_VERSION, RefreshPolicy.TTL),
+	SERIAL_NUMBER("SerialNumber", PayloadCategory.SERIAL.getCode(), Command.SERIAL_NUMBER, RefreshPolicy.CONNECTION),
+	MAC_ADDRESS("MACAddress", PayloadCategory.CAMERA.getCode(), Command.MAC_ADDRESS, RefreshPolicy.TTL),
+	CAMERA_ID("CameraID", PayloadCategory.CAMERA_ID.getCode(), Command.CAMERA_ID, RefreshPolicy.CONNECTION),
+	SYSTEM_DHCP("DHCP", PayloadCategory.SYSTEM.getCode(), Command.DHCP, RefreshPolicy.TTL),
+	IPV4_ADDRESS( "IPv4Address", PayloadCategory.SYSTEM.getCode(), Command.IPV4_ADDRESS, RefreshPolicy.TTL),
+	IPV4_NETMASK( "IPv4Netmask", PayloadCategory.SYSTEM.getCode(), Command.IPV4_NETMASK, RefreshPolicy.TTL),
+	SYSTEM_GATEWAY("Gateway", PayloadCategory.SYSTEM.getCode(), Command.GATEWAY, RefreshPolicy.TTL),
+	SYSTEM_DNS("DNS", PayloadCategory.SYSTEM.getCode(), Command.DNS, RefreshPolicy.TTL),
+	SYSTEM_TRACKING_LED("TrackingLedStatus", PayloadCategory.TRACKING.getCode(), Command.TRACKING_LED_STATUS, RefreshPolicy.CYCLE);
 	private final String key;
 	private final byte categoryCode;
 	private final Command command;
+	private final RefreshPolicy refreshPolicy;
 
 	/**
 	 * Constructs a GeneralProperty enum instance.
@@ -34,11 +36,13 @@ public enum GeneralProperty {
 	 * @param key           the key for stats map
 	 * @param categoryCode  payload category code
 	 * @param command       VISCA command to retrieve this property
+	 * @param refreshPolicy how often this property is read again once cached
 	 */
-	GeneralProperty(String key, byte categoryCode, Command command) {
+	GeneralProperty(String key, byte categoryCode, Command command, RefreshPolicy refreshPolicy) {
 		this.key = key;
 		this.categoryCode = categoryCode;
 		this.command = command;
+		this.refreshPolicy = refreshPolicy;
 	}
 
 	/**
@@ -61,4 +65,11 @@ public enum GeneralProperty {
 	 * @return the Command enum
 	 */
 	public Command command() { return command; }
+
+	/**
+	 * Returns how often this property is read again once cached.
+	 *
+	 * @return the RefreshPolicy enum
+	 */
+	public RefreshPolicy refreshPolicy() { return refreshPolicy; }
 }
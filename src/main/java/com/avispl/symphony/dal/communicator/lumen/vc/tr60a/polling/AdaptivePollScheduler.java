@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command.Command;
+
+/**
+ * This class is used to adapt the poll interval of each inquiry to how often its value changes.
+ * A value that changed is polled again on the next cycle; every read returning the same value doubles the interval,
+ * starting from the minimum interval and capped at the maximum staleness. A control touching a property resets its interval.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class AdaptivePollScheduler {
+	private final long minInterval;
+	private long maxInterval;
+	private final Map<Command, Entry> entries = new EnumMap<>(Command.class);
+
+	/**
+	 * Constructs an empty scheduler
+	 *
+	 * @param minInterval interval in milliseconds after the first read returning an unchanged value
+	 * @param maxInterval maximum interval in milliseconds, 0 to poll every inquiry on every cycle
+	 */
+	public AdaptivePollScheduler(long minInterval, long maxInterval) {
+		this.minInterval = minInterval;
+		this.maxInterval = maxInterval;
+	}
+
+	/**
+	 * Update the maximum interval, the current intervals are capped to it
+	 *
+	 * @param maxInterval maximum interval in milliseconds, 0 to poll every inquiry on every cycle
+	 */
+	public synchronized void setMaxInterval(long maxInterval) {
+		this.maxInterval = maxInterval;
+		entries.values().forEach(entry -> entry.interval = Math.min(entry.interval, maxInterval));
+	}
+
+	/**
+	 * Check if an inquiry has to be sent or its last value can be rendered
+	 *
+	 * @param command the command of the inquiry
+	 * @param now current timestamp
+	 * @return true if the inquiry was never sent, has been reset or its interval has elapsed
+	 */
+	public synchronized boolean isDue(Command command, long now) {
+		Entry entry = entries.get(command);
+		return entry == null || now - entry.fetchTimestamp >= entry.interval;
+	}
+
+	/**
+	 * Retrieves the last value read for an inquiry
+	 *
+	 * @param command the command of the inquiry
+	 * @return Object the last value or null if the inquiry was never recorded
+	 */
+	public synchronized Object get(Command command) {
+		Entry entry = entries.get(command);
+		return entry == null ? null : entry.value;
+	}
+
+	/**
+	 * Record the value read for an inquiry and compute its next interval
+	 *
+	 * @param command the command of the inquiry
+	 * @param value the value read from the device
+	 * @param now current timestamp
+	 */
+	public synchronized void record(Command command, Object value, long now) {
+		Entry entry = entries.get(command);
+		if (entry == null) {
+			entries.put(command, new Entry(value, now));
+			return;
+		}
+		if (Objects.equals(entry.value, value)) {
+			entry.interval = Math.min(maxInterval, entry.interval == 0 ? minInterval : entry.interval * 2);
+		} else {
+			entry.interval = 0;
+		}
+		entry.value = value;
+		entry.fetchTimestamp = now;
+	}
+
+	/**
+	 * Retrieves the current interval of an inquiry
+	 *
+	 * @param command the command of the inquiry
+	 * @return long interval in milliseconds, 0 if the inquiry is polled on every cycle
+	 */
+	public synchronized long getInterval(Command command) {
+		Entry entry = entries.get(command);
+		return entry == null ? 0 : entry.interval;
+	}
+
+	/**
+	 * Poll the inquiries again on the next read
+	 *
+	 * @param commands the commands of the inquiries
+	 */
+	public synchronized void reset(Command... commands) {
+		for (Command command : commands) {
+			entries.remove(command);
+		}
+	}
+
+	/**
+	 * Poll the inquiries of a group again on the next read
+	 *
+	 * @param group the group of the commands, as in {@link Command#getGroup()}
+	 */
+	public synchronized void resetGroup(String group) {
+		entries.keySet().removeIf(command -> command.getGroup() != null && command.getGroup().equalsIgnoreCase(group));
+	}
+
+	/**
+	 * Poll every inquiry again on the next read
+	 */
+	public synchronized void resetAll() {
+		entries.clear();
+	}
+
+	/**
+	 * Retrieves the number of inquiries polled less often than every cycle
+	 *
+	 * @return number of inquiries whose interval is not 0
+	 */
+	public synchronized int countSlowed() {
+		return (int) entries.values().stream().filter(entry -> entry.interval > 0).count();
+	}
+
+	/**
+	 * Last value and interval of an inquiry
+	 */
+	private static class Entry {
+		private Object value;
+		private long fetchTimestamp;
+		private long interval;
+
+		Entry(Object value, long fetchTimestamp) {
+			this.value = value;
+			this.fetchTimestamp = fetchTimestamp;
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling;
+
+/**
+ * This class is used to pace the burst of position inquiries following a move of the camera.
+ * The burst starts at the minimum interval; every read that finds the positions unchanged doubles the interval,
+ * and the burst ends once the interval exceeds the maximum or the burst lasts longer than the maximum duration.
+ * A move during a burst starts a new one: the reads scheduled by the previous burst are then ignored.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MotionBurst {
+	private final long minInterval;
+	private final long maxInterval;
+	private final long maxDuration;
+	private long generation;
+	private long startTime;
+	private long interval;
+	private boolean active;
+
+	/**
+	 * Constructs an idle burst
+	 *
+	 * @param minInterval interval in milliseconds between two reads while the camera moves
+	 * @param maxInterval interval in milliseconds beyond which the camera is considered still
+	 * @param maxDuration maximum duration in milliseconds of a burst
+	 */
+	public MotionBurst(long minInterval, long maxInterval, long maxDuration) {
+		this.minInterval = minInterval;
+		this.maxInterval = maxInterval;
+		this.maxDuration = maxDuration;
+	}
+
+	/**
+	 * Start a new burst, replacing the one in progress
+	 *
+	 * @param now current timestamp
+	 * @return long the generation of the burst, to be passed to {@link #next(long, boolean, long)}
+	 */
+	public synchronized long start(long now) {
+		generation++;
+		startTime = now;
+		interval = minInterval;
+		active = true;
+		return generation;
+	}
+
+	/**
+	 * Retrieves the delay before the first read of a burst
+	 *
+	 * @return long delay in milliseconds
+	 */
+	public long getMinInterval() {
+		return minInterval;
+	}
+
+	/**
+	 * Check if a burst is the one in progress
+	 *
+	 * @param generation the generation of the burst
+	 * @return true if the burst has neither ended nor been replaced
+	 */
+	public synchronized boolean isCurrent(long generation) {
+		return active && this.generation == generation;
+	}
+
+	/**
+	 * Compute the delay before the next read of a burst
+	 *
+	 * @param generation the generation of the burst
+	 * @param changed true if the last read found a position changed
+	 * @param now current timestamp
+	 * @return long delay in milliseconds, or -1 if the burst is over
+	 */
+	public synchronized long next(long generation, boolean changed, long now) {
+		if (!isCurrent(generation)) {
+			return -1;
+		}
+		interval = changed ? minInterval : interval * 2;
+		if (interval > maxInterval || now - startTime >= maxDuration) {
+			active = false;
+			return -1;
+		}
+		return interval;
+	}
+
+	/**
+	 * End a burst
+	 *
+	 * @param generation the generation of the burst, ignored if it has already been replaced
+	 */
+	public synchronized void stop(long generation) {
+		if (this.generation == generation) {
+			active = false;
+		}
+	}
+
+	/**
+	 * Check if a burst is in progress
+	 *
+	 * @return true if the positions are currently polled at a high rate
+	 */
+	public synchronized boolean isActive() {
+		return active;
+	}
+}
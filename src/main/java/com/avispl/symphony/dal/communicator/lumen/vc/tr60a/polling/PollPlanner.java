@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.PollingGroup;
+
+/**
+ * This class is used to plan the polling groups of a time-budgeted monitoring cycle.
+ * Groups are polled least recently polled first, then by {@link PollingGroup#getTier()}: the groups deferred by a cycle
+ * because its budget ran out are polled before the groups the cycle did poll, so that every group is eventually refreshed.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PollPlanner {
+	private final Map<PollingGroup, Long> lastPolledCycles = new EnumMap<>(PollingGroup.class);
+	private long cycle;
+
+	/**
+	 * Plan the groups of the next cycle
+	 *
+	 * @return List<PollingGroup> every group, in polling order
+	 */
+	public synchronized List<PollingGroup> plan() {
+		List<PollingGroup> groups = new ArrayList<>(EnumSet.allOf(PollingGroup.class));
+		groups.sort(Comparator.comparing((PollingGroup group) -> lastPolledCycles.getOrDefault(group, 0L)).thenComparing(PollingGroup::getTier));
+		return groups;
+	}
+
+	/**
+	 * Record the groups a cycle could not poll within its budget, every other group being polled by the cycle
+	 *
+	 * @param deferred the groups to be polled first by the next cycles
+	 */
+	public synchronized void defer(Collection<PollingGroup> deferred) {
+		cycle++;
+		for (PollingGroup group : PollingGroup.values()) {
+			if (!deferred.contains(group)) {
+				lastPolledCycles.put(group, cycle);
+			}
+		}
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * This class is used to detect when the camera arrives at a recalled preset and to measure its travel time.
+ * The travel time runs from the recall to the last position change observed before the positions became stable,
+ * or to the COMPLETION of the recall if it is read later: the camera arrives once both are observed.
+ * Travel times are counted per preset in buckets of {@link #BUCKET_BOUNDS} milliseconds.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PresetMoveTracker {
+	/**
+	 * Upper bounds in milliseconds of the travel time buckets, the last bucket has no upper bound
+	 */
+	public static final long[] BUCKET_BOUNDS = { 1000, 2000, 4000, 8000, 16000 };
+
+	private final Map<Integer, long[]> histograms = new TreeMap<>();
+	private int preset = -1;
+	private long move;
+	private long recallTime;
+	private long lastMotionTime;
+	private boolean completed;
+	private boolean stable;
+	private boolean arrived;
+	private long lastTravelTime = -1;
+	private CompletableFuture<Long> arrival = new CompletableFuture<>();
+
+	/**
+	 * Record the recall of a preset, replacing the move in progress.
+	 * The camera is considered moving until the completion of the recall, which some firmware only report on arrival.
+	 *
+	 * @param preset the recalled preset
+	 * @param recallTime timestamp the recall was sent
+	 * @return long the number of this move, used to report its completion
+	 */
+	public synchronized long start(int preset, long recallTime) {
+		arrival.cancel(false);
+		this.preset = preset;
+		this.recallTime = recallTime;
+		lastMotionTime = recallTime;
+		completed = false;
+		stable = false;
+		arrived = false;
+		arrival = new CompletableFuture<>();
+		return ++move;
+	}
+
+	/**
+	 * Record the COMPLETION of a recall. The camera arrives now if its positions were already stable.
+	 *
+	 * @param move the number of the move returned by {@link #start(int, long)}, ignored if another move replaced it
+	 * @param completionTime timestamp the completion of the recall was read
+	 */
+	public synchronized void onCompletion(long move, long completionTime) {
+		if (move != this.move || !isPending()) {
+			return;
+		}
+		completed = true;
+		lastMotionTime = Math.max(lastMotionTime, completionTime);
+		if (stable) {
+			arrive();
+		}
+	}
+
+	/**
+	 * Record a change of the positions
+	 *
+	 * @param now timestamp of the read that found the positions changed
+	 */
+	public synchronized void onMotion(long now) {
+		if (isPending()) {
+			lastMotionTime = now;
+			stable = false;
+		}
+	}
+
+	/**
+	 * Record that the positions are stable: the camera arrived at the preset, once the COMPLETION of the recall is read
+	 */
+	public synchronized void onStable() {
+		if (!isPending()) {
+			return;
+		}
+		stable = true;
+		if (completed) {
+			arrive();
+		}
+	}
+
+	/**
+	 * Give up a move whose recall failed or was cancelled
+	 *
+	 * @param move the number of the move returned by {@link #start(int, long)}, ignored if another move replaced it
+	 */
+	public synchronized void cancel(long move) {
+		if (move == this.move) {
+			cancel();
+		}
+	}
+
+	private void arrive() {
+		arrived = true;
+		lastTravelTime = lastMotionTime - recallTime;
+		long[] histogram = histograms.computeIfAbsent(preset, key -> new long[BUCKET_BOUNDS.length + 1]);
+		histogram[bucket(lastTravelTime)]++;
+		arrival.complete(lastTravelTime);
+	}
+
+	/**
+	 * Give up the move in progress: another move superseded it or the positions could not be read until they were stable
+	 */
+	public synchronized void cancel() {
+		if (isPending()) {
+			arrival.completeExceptionally(new CancellationException("Move to preset " + preset + " did not complete"));
+		}
+	}
+
+	/**
+	 * Retrieves the arrival of the last recalled preset
+	 *
+	 * @return CompletableFuture completed with the travel time in milliseconds, or completed exceptionally if the move was cancelled
+	 */
+	public synchronized CompletableFuture<Long> getArrival() {
+		return arrival;
+	}
+
+	/**
+	 * Retrieves {@code {@link #preset}}
+	 *
+	 * @return the last recalled preset, -1 if no preset has been recalled
+	 */
+	public synchronized int getPreset() {
+		return preset;
+	}
+
+	/**
+	 * Retrieves {@code {@link #arrived}}
+	 *
+	 * @return true if the camera arrived at the last recalled preset
+	 */
+	public synchronized boolean isArrived() {
+		return arrived;
+	}
+
+	/**
+	 * Retrieves {@code {@link #lastTravelTime}}
+	 *
+	 * @return travel time in milliseconds of the last completed move, -1 if no move completed yet
+	 */
+	public synchronized long getLastTravelTime() {
+		return lastTravelTime;
+	}
+
+	/**
+	 * Retrieves the travel time histograms
+	 *
+	 * @return Map<Integer, long[]> the count of moves in each bucket, by preset
+	 */
+	public synchronized Map<Integer, long[]> getHistograms() {
+		Map<Integer, long[]> copy = new TreeMap<>();
+		histograms.forEach((key, histogram) -> copy.put(key, histogram.clone()));
+		return Collections.unmodifiableMap(copy);
+	}
+
+	/**
+	 * Format a travel time histogram, e.g. {@code <1s: 0, 1-2s: 3, 2-4s: 1, 4-8s: 0, 8-16s: 0, >=16s: 0}
+	 *
+	 * @param histogram the count of moves in each bucket
+	 * @return String the formatted histogram
+	 */
+	public static String formatHistogram(long[] histogram) {
+		StringBuilder builder = new StringBuilder();
+		for (int bucket = 0; bucket < histogram.length; bucket++) {
+			if (bucket > 0) {
+				builder.append(", ");
+			}
+			if (bucket == 0) {
+				builder.append('<').append(BUCKET_BOUNDS[0] / 1000).append('s');
+			} else if (bucket == BUCKET_BOUNDS.length) {
+				builder.append(">=").append(BUCKET_BOUNDS[bucket - 1] / 1000).append('s');
+			} else {
+				builder.append(BUCKET_BOUNDS[bucket - 1] / 1000).append('-').append(BUCKET_BOUNDS[bucket] / 1000).append('s');
+			}
+			builder.append(": ").append(histogram[bucket]);
+		}
+		return builder.toString();
+	}
+
+	private boolean isPending() {
+		return preset != -1 && !arrival.isDone();
+	}
+
+	private static int bucket(long travelTime) {
+		int bucket = 0;
+		while (bucket < BUCKET_BOUNDS.length && travelTime >= BUCKET_BOUNDS[bucket]) {
+			bucket++;
+		}
+		return bucket;
+	}
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.power;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AConstants;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.PowerStatus;
+
+/**
+ * This class is used to define the power states of the camera
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum PowerState {
+	OFF(PowerStatus.OFF.getName()),
+	TURNING_ON(LumenVCTR60AConstants.POWER_ON_STATUS),
+	ON(PowerStatus.ON.getName()),
+	TURNING_OFF(LumenVCTR60AConstants.POWER_OFF_STATUS);
+
+	private final String name;
+
+	PowerState(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Retrieves {@code {@link #name}}
+	 *
+	 * @return value of {@link #name}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * This method is used to get the stable state of a reported power status
+	 *
+	 * @param powerStatus the power status reported by the camera
+	 * @return PowerState ON or OFF
+	 */
+	public static PowerState of(PowerStatus powerStatus) {
+		return powerStatus == PowerStatus.ON ? ON : OFF;
+	}
+}
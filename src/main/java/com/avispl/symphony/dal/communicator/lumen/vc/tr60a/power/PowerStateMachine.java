@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.power;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.PowerStatus;
+
+/**
+ * This class is used to follow the power state of the camera:
+ * <pre>
+ * OFF --power on--> TURNING_ON --reports ON--> ON --power off--> TURNING_OFF --reports OFF--> OFF
+ * </pre>
+ * During a transition the power status is probed with exponential back off, and the transition ends as soon as
+ * the camera reports the target state. If it does not within {@code transitionTimeout}, the last reported state
+ * (or the target state when nothing was reported) is taken.
+ * Outside transitions the state follows the power status read by each monitoring cycle.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class PowerStateMachine {
+	private final long initialProbeDelay;
+	private final long maxProbeDelay;
+	private final long transitionTimeout;
+	private PowerState state = PowerState.ON;
+	private PowerState lastReportedState;
+	private long transitionStartTimestamp;
+	private long nextProbeTimestamp;
+	private long probeDelay;
+
+	/**
+	 * Constructs a state machine, the state is ON until the first power status is reported
+	 *
+	 * @param initialProbeDelay delay in milliseconds between the power command and the first probe
+	 * @param maxProbeDelay upper bound of the delay between two probes
+	 * @param transitionTimeout maximum duration of a transition in milliseconds
+	 */
+	public PowerStateMachine(long initialProbeDelay, long maxProbeDelay, long transitionTimeout) {
+		this.initialProbeDelay = initialProbeDelay;
+		this.maxProbeDelay = maxProbeDelay;
+		this.transitionTimeout = transitionTimeout;
+	}
+
+	/**
+	 * Start a transition after a power command has been sent
+	 *
+	 * @param target the power status sent to the camera
+	 * @param now current timestamp
+	 */
+	public synchronized void onCommand(PowerStatus target, long now) {
+		state = target == PowerStatus.ON ? PowerState.TURNING_ON : PowerState.TURNING_OFF;
+		lastReportedState = null;
+		transitionStartTimestamp = now;
+		probeDelay = initialProbeDelay;
+		nextProbeTimestamp = now + probeDelay;
+	}
+
+	/**
+	 * Record the power status reported by the camera
+	 *
+	 * @param reported the power status reported by the camera
+	 * @param now current timestamp
+	 */
+	public synchronized void onReport(PowerStatus reported, long now) {
+		PowerState reportedState = PowerState.of(reported);
+		if (!isTransitioning() || reportedState == getTarget() || now - transitionStartTimestamp >= transitionTimeout) {
+			state = reportedState;
+			return;
+		}
+		lastReportedState = reportedState;
+		scheduleNextProbe(now);
+	}
+
+	/**
+	 * Record a probe which was not answered, e.g. while the camera is rebooting
+	 *
+	 * @param now current timestamp
+	 */
+	public synchronized void onProbeFailure(long now) {
+		if (!isTransitioning()) {
+			return;
+		}
+		if (now - transitionStartTimestamp >= transitionTimeout) {
+			state = lastReportedState != null ? lastReportedState : getTarget();
+			return;
+		}
+		scheduleNextProbe(now);
+	}
+
+	/**
+	 * Check if the power status should be probed
+	 *
+	 * @param now current timestamp
+	 * @return true if a transition is in progress and its back off is over
+	 */
+	public synchronized boolean isProbeDue(long now) {
+		return isTransitioning() && now >= nextProbeTimestamp;
+	}
+
+	/**
+	 * Check if a transition is in progress
+	 *
+	 * @return true if the state is TURNING_ON or TURNING_OFF
+	 */
+	public synchronized boolean isTransitioning() {
+		return state == PowerState.TURNING_ON || state == PowerState.TURNING_OFF;
+	}
+
+	/**
+	 * Retrieves {@code {@link #state}}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized PowerState getState() {
+		return state;
+	}
+
+	private PowerState getTarget() {
+		return state == PowerState.TURNING_ON ? PowerState.ON : PowerState.OFF;
+	}
+
+	private void scheduleNextProbe(long now) {
+		probeDelay = Math.min(probeDelay * 2, maxProbeDelay);
+		nextProbeTimestamp = now + probeDelay;
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * This class is used to persist the last known state of a device in a compact binary file, so that
+ * it can be served right after a restart while the device is polled again.
+ * The file structure (big endian):
+ * <pre>
+ * [Magic (4 bytes)][Version (2 bytes)][Timestamp (8 bytes)][Entry count (4 bytes)]
+ * [Key length (2 bytes)][Key (UTF-8)][Value length (2 bytes)][Value (UTF-8)]...
+ * </pre>
+ * Saves are done on the given executor and coalesced: only the latest state is written when saves pile up.
+ * The file is replaced atomically, so a crash never leaves a partial snapshot behind.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SnapshotStore {
+	private static final int MAGIC = 0x4C565452;
+	private static final short VERSION = 1;
+	private static final int MAX_LENGTH = 0xFFFF;
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final Path file;
+	private final Executor executor;
+	private final AtomicReference<Map<String, String>> pendingValues = new AtomicReference<>();
+
+	/**
+	 * Constructs a store for one device
+	 *
+	 * @param file the snapshot file of the device
+	 * @param executor the executor used to write the file in the background
+	 */
+	public SnapshotStore(Path file, Executor executor) {
+		this.file = file;
+		this.executor = executor;
+	}
+
+	/**
+	 * Load the snapshot file, memory-mapped
+	 *
+	 * @return Snapshot the persisted state or null if there is no valid snapshot
+	 */
+	public Snapshot load() {
+		if (!Files.isRegularFile(file)) {
+			return null;
+		}
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			if (buffer.getInt() != MAGIC || buffer.getShort() != VERSION) {
+				logger.warn("Ignore snapshot " + file + " with unknown format");
+				return null;
+			}
+			long timestamp = buffer.getLong();
+			int count = buffer.getInt();
+			Map<String, String> values = new LinkedHashMap<>();
+			for (int i = 0; i < count; i++) {
+				values.put(readString(buffer), readString(buffer));
+			}
+			return new Snapshot(timestamp, values);
+		} catch (IOException | BufferUnderflowException e) {
+			logger.warn("Failed to load snapshot " + file, e);
+			return null;
+		}
+	}
+
+	/**
+	 * Save the state of the device in the background
+	 *
+	 * @param values the statistics to be persisted
+	 */
+	public void saveAsync(Map<String, String> values) {
+		if (pendingValues.getAndSet(new LinkedHashMap<>(values)) == null) {
+			executor.execute(this::flush);
+		}
+	}
+
+	/**
+	 * Write the latest pending state to a temporary file and move it over the snapshot file
+	 */
+	private void flush() {
+		Map<String, String> values = pendingValues.getAndSet(null);
+		if (values == null) {
+			return;
+		}
+		try {
+			Files.createDirectories(file.toAbsolutePath().getParent());
+			Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+			try (OutputStream outputStream = Files.newOutputStream(temporaryFile);
+					DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+				output.writeInt(MAGIC);
+				output.writeShort(VERSION);
+				output.writeLong(System.currentTimeMillis());
+				output.writeInt(values.size());
+				for (Map.Entry<String, String> entry : values.entrySet()) {
+					writeString(output, entry.getKey());
+					writeString(output, entry.getValue());
+				}
+			}
+			Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (Exception e) {
+			logger.warn("Failed to save snapshot " + file + ": " + e.getMessage());
+		}
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+		int length = Math.min(bytes.length, MAX_LENGTH);
+		output.writeShort(length);
+		output.write(bytes, 0, length);
+	}
+
+	private static String readString(MappedByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getShort() & MAX_LENGTH];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * State of a device loaded from its snapshot file
+	 */
+	public static class Snapshot {
+		private final long timestamp;
+		private final Map<String, String> values;
+
+		Snapshot(long timestamp, Map<String, String> values) {
+			this.timestamp = timestamp;
+			this.values = Collections.unmodifiableMap(values);
+		}
+
+		/**
+		 * Retrieves {@code {@link #timestamp}}
+		 *
+		 * @return time the snapshot was written, in milliseconds
+		 */
+		public long getTimestamp() {
+			return timestamp;
+		}
+
+		/**
+		 * Retrieves {@code {@link #values}}
+		 *
+		 * @return persisted statistics
+		 */
+		public Map<String, String> getValues() {
+			return values;
+		}
+	}
+}
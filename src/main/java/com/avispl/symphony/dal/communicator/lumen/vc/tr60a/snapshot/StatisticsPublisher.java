@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.snapshot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+
+/**
+ * This class is used to publish the statistics of a device as immutable snapshots.
+ * A snapshot is never modified once published: the poller replaces it, and a control publishes a copy with its changes applied,
+ * so readers never block and never see a half-updated state.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class StatisticsPublisher {
+	private final AtomicReference<ExtendedStatistics> latest = new AtomicReference<>();
+
+	/**
+	 * Retrieves the latest snapshot
+	 *
+	 * @return ExtendedStatistics the latest published statistics or null if nothing has been published yet
+	 */
+	public ExtendedStatistics get() {
+		return latest.get();
+	}
+
+	/**
+	 * Publish the statistics of a cycle, replacing the latest snapshot
+	 *
+	 * @param statistics the statistics
+	 * @param controls the controllable properties
+	 * @param dynamicStatistics the dynamic statistics
+	 * @return ExtendedStatistics the published snapshot
+	 */
+	public ExtendedStatistics publish(Map<String, String> statistics, List<AdvancedControllableProperty> controls, Map<String, String> dynamicStatistics) {
+		ExtendedStatistics snapshot = freeze(statistics, controls, dynamicStatistics);
+		latest.set(snapshot);
+		return snapshot;
+	}
+
+	/**
+	 * Publish a copy of the latest snapshot with the changes of a control applied.
+	 * A controllable property whose name is in {@code statistics} gets the new value, a copy of a controllable property in {@code controls}
+	 * replaces the one with the same name. The changed properties are copied: the caller and older snapshots never share them.
+	 *
+	 * @param statistics the changed statistics
+	 * @param controls the changed controllable properties
+	 * @return boolean false if nothing has been published yet, the changes are then dropped
+	 */
+	public boolean applyDelta(Map<String, String> statistics, List<AdvancedControllableProperty> controls) {
+		if (statistics.isEmpty() && controls.isEmpty()) {
+			return latest.get() != null;
+		}
+		return latest.updateAndGet(current -> current == null ? null : merge(current, statistics, controls)) != null;
+	}
+
+	private static ExtendedStatistics merge(ExtendedStatistics current, Map<String, String> statistics, List<AdvancedControllableProperty> controls) {
+		Map<String, String> mergedStatistics = new HashMap<>(current.getStatistics());
+		mergedStatistics.putAll(statistics);
+
+		Map<String, AdvancedControllableProperty> mergedControls = new LinkedHashMap<>();
+		Date now = new Date();
+		for (AdvancedControllableProperty control : current.getControllableProperties()) {
+			String value = statistics.get(control.getName());
+			mergedControls.put(control.getName(), value == null ? control : copy(control, value, now));
+		}
+		for (AdvancedControllableProperty control : controls) {
+			mergedControls.put(control.getName(), copy(control, control.getValue(), now));
+		}
+		return freeze(mergedStatistics, new ArrayList<>(mergedControls.values()), current.getDynamicStatistics());
+	}
+
+	private static AdvancedControllableProperty copy(AdvancedControllableProperty control, Object value, Date now) {
+		return new AdvancedControllableProperty(control.getName(), now, control.getType(), value);
+	}
+
+	private static ExtendedStatistics freeze(Map<String, String> statistics, List<AdvancedControllableProperty> controls, Map<String, String> dynamicStatistics) {
+		ExtendedStatistics snapshot = new ExtendedStatistics();
+		snapshot.setStatistics(Collections.unmodifiableMap(new HashMap<>(statistics)));
+		snapshot.setControllableProperties(Collections.unmodifiableList(new ArrayList<>(controls)));
+		snapshot.setDynamicStatistics(Collections.unmodifiableMap(new HashMap<>(dynamicStatistics)));
+		return snapshot;
+	}
+}
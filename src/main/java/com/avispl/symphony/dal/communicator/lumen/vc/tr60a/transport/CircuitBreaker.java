@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+/**
+ * This class is used to stop polling a device which does not answer anymore.
+ * <li>CLOSED: requests are sent normally, consecutive timeouts are counted</li>
+ * <li>OPEN: reached after {@code threshold} consecutive timeouts, only a liveness probe is sent</li>
+ * <li>HALF_OPEN: a reply was received while open, the next reply closes the circuit and the next timeout opens it again</li>
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CircuitBreaker {
+
+	/**
+	 * States of the circuit
+	 */
+	public enum State {
+		CLOSED("Closed"),
+		OPEN("Open"),
+		HALF_OPEN("HalfOpen");
+
+		private final String name;
+
+		State(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * Retrieves {@code {@link #name}}
+		 *
+		 * @return value of {@link #name}
+		 */
+		public String getName() {
+			return name;
+		}
+	}
+
+	private final int threshold;
+	private State state = State.CLOSED;
+	private int consecutiveTimeouts;
+
+	/**
+	 * Constructs a closed circuit breaker
+	 *
+	 * @param threshold number of consecutive timeouts which opens the circuit
+	 */
+	public CircuitBreaker(int threshold) {
+		if (threshold < 1) {
+			throw new IllegalArgumentException("Threshold must be at least 1");
+		}
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Record a reply received from the device
+	 */
+	public synchronized void recordSuccess() {
+		consecutiveTimeouts = 0;
+		if (state == State.OPEN) {
+			state = State.HALF_OPEN;
+		} else if (state == State.HALF_OPEN) {
+			state = State.CLOSED;
+		}
+	}
+
+	/**
+	 * Record a request which timed out
+	 */
+	public synchronized void recordTimeout() {
+		consecutiveTimeouts++;
+		if (state == State.HALF_OPEN || consecutiveTimeouts >= threshold) {
+			state = State.OPEN;
+		}
+	}
+
+	/**
+	 * Close the circuit, e.g. after a reconnection
+	 */
+	public synchronized void reset() {
+		consecutiveTimeouts = 0;
+		state = State.CLOSED;
+	}
+
+	/**
+	 * Check if the circuit is open
+	 *
+	 * @return true if only a liveness probe may be sent to the device
+	 */
+	public synchronized boolean isOpen() {
+		return state == State.OPEN;
+	}
+
+	/**
+	 * Retrieves {@code {@link #state}}
+	 *
+	 * @return value of {@link #state}
+	 */
+	public synchronized State getState() {
+		return state;
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+
+/**
+ * This exception is thrown instead of sending a request while the circuit of the device is open.
+ * It is raised for every request of an offline device, so it does not capture a stack trace.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CircuitOpenException extends ResourceNotReachableException {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructs the exception for a device
+	 *
+	 * @param host the host of the device
+	 */
+	public CircuitOpenException(String host) {
+		super("Device " + host + " is not reachable, circuit is open");
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * The stack trace is not filled to keep failing fast cheap.
+	 */
+	@Override
+	public synchronized Throwable fillInStackTrace() {
+		return this;
+	}
+}
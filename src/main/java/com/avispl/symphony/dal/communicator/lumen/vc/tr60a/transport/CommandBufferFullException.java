@@ -0,0 +1,27 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import com.avispl.symphony.api.dal.error.CommandFailureException;
+
+/**
+ * This exception is thrown by a request running on the event loop when the command buffer of the device is full.
+ * The event loop is never held during the back off: the caller queues the request again once the back off is over.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CommandBufferFullException extends CommandFailureException {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructs the exception from the command buffer full reply
+	 *
+	 * @param cause the failure of the request, holding the reply of the device
+	 */
+	public CommandBufferFullException(CommandFailureException cause) {
+		super(cause.getAddress(), cause.getRequest(), cause.getResponse(), cause);
+	}
+}
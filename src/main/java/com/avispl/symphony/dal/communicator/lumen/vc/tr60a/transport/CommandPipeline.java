@@ -0,0 +1,305 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AUtils;
+
+/**
+ * This class is used to pipeline VISCA control commands.
+ * Up to {@code windowSize} commands are outstanding at the same time (the camera has two command sockets),
+ * ACK replies bind a sequence number to a socket number and COMPLETION/ERROR replies are matched
+ * back to the pending command by their sequence number only, so a late reply of another command never ends a command of the batch.
+ * Commands wait in a bounded queue in front of the window. A command rejected because the command buffer
+ * of the camera is full goes back to the head of the queue and is re-sent after a back off, with a fresh sequence number.
+ * The pipeline never sleeps: {@link #drain()} returns the remaining back off, so that the caller does not hold the device while waiting.
+ * A command fails when its ACK is not received within the ACK timeout; once ACKed, it waits for its COMPLETION
+ * up to the completion timeout, so that a slow command never fails the rest of the batch.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class CommandPipeline {
+	private static final int REPLY_TYPE_MASK = 0xF0;
+	private static final int SOCKET_MASK = 0x0F;
+	private static final int ACK = 0x40;
+	private static final int COMPLETION = 0x50;
+	private static final int ERROR = 0x60;
+	private static final int COMMAND_BUFFER_FULL = 0x03;
+
+	private final PacketChannel channel;
+	private final IntSupplier sequenceNumbers;
+	private final int windowSize;
+	private final int queueCapacity;
+	private final int maxBufferFullRetries;
+	private final long bufferFullBackoff;
+	private final long ackTimeout;
+	private final long completionTimeout;
+	private final Deque<PendingCommand> queuedCommands = new ArrayDeque<>();
+	private final Map<Integer, PendingCommand> pendingCommands = new LinkedHashMap<>();
+	private final List<String> failures = new ArrayList<>();
+	private int bufferFullRetries;
+
+	/**
+	 * Constructs a pipeline over the given channel
+	 *
+	 * @param channel the channel used to write commands and read replies
+	 * @param sequenceNumbers the generator of sequence numbers for re-sent commands
+	 * @param windowSize maximum number of outstanding commands
+	 * @param queueCapacity maximum number of commands waiting for the window
+	 * @param maxBufferFullRetries maximum number of times a command is re-sent after a command buffer full reply
+	 * @param bufferFullBackoff delay in milliseconds before the first re-send, doubled for each retry
+	 * @param ackTimeout delay in milliseconds after which a command sent without ACK fails
+	 * @param completionTimeout delay in milliseconds after its ACK at which a command without COMPLETION fails
+	 */
+	public CommandPipeline(PacketChannel channel, IntSupplier sequenceNumbers, int windowSize, int queueCapacity, int maxBufferFullRetries, long bufferFullBackoff,
+			long ackTimeout, long completionTimeout) {
+		if (windowSize < 1 || queueCapacity < 1) {
+			throw new IllegalArgumentException("Window size and queue capacity must be at least 1");
+		}
+		this.channel = channel;
+		this.sequenceNumbers = sequenceNumbers;
+		this.windowSize = windowSize;
+		this.queueCapacity = queueCapacity;
+		this.maxBufferFullRetries = maxBufferFullRetries;
+		this.bufferFullBackoff = bufferFullBackoff;
+		this.ackTimeout = ackTimeout;
+		this.completionTimeout = completionTimeout;
+	}
+
+	/**
+	 * Submit a command packet. Blocks only while the queue is full and replies of outstanding commands are awaited.
+	 *
+	 * @param name the name used to report a failure of this command
+	 * @param packet the command packet to be sent
+	 */
+	public void submit(String name, byte[] packet) {
+		submit(name, packet, null);
+	}
+
+	/**
+	 * Submit a command packet. Blocks only while the queue is full and replies of outstanding commands are awaited;
+	 * a queue only holding commands in back off accepts the command.
+	 *
+	 * @param name the name used to report a failure of this command
+	 * @param packet the command packet to be sent
+	 * @param onCompleted run once the device reports the COMPLETION of the command, null if nothing needs to be run
+	 */
+	public void submit(String name, byte[] packet, Runnable onCompleted) {
+		sendQueued();
+		while (queuedCommands.size() >= queueCapacity && !pendingCommands.isEmpty()) {
+			receiveOne();
+			sendQueued();
+		}
+		queuedCommands.addLast(new PendingCommand(name, packet, onCompleted));
+		sendQueued();
+	}
+
+	/**
+	 * Read replies until every submitted command is completed, failed or timed out,
+	 * or until the only commands left are in back off after a command buffer full reply
+	 *
+	 * @return long delay in milliseconds before the next command can be re-sent, 0 once every command is done
+	 */
+	public long drain() {
+		while (true) {
+			sendQueued();
+			if (!pendingCommands.isEmpty()) {
+				receiveOne();
+			} else if (queuedCommands.isEmpty()) {
+				return 0;
+			} else {
+				long delay = queuedCommands.peekFirst().notBefore - System.currentTimeMillis();
+				if (delay > 0) {
+					return delay;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Retrieves {@code {@link #pendingCommands}} and {@code {@link #queuedCommands}} size
+	 *
+	 * @return number of commands still waiting for COMPLETION
+	 */
+	public int getOutstandingCount() {
+		return pendingCommands.size() + queuedCommands.size();
+	}
+
+	/**
+	 * Retrieves {@code {@link #failures}}
+	 *
+	 * @return failure messages collected so far
+	 */
+	public List<String> getFailures() {
+		return Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * Retrieves {@code {@link #bufferFullRetries}}
+	 *
+	 * @return number of commands re-sent after a command buffer full reply
+	 */
+	public int getBufferFullRetries() {
+		return bufferFullRetries;
+	}
+
+	/**
+	 * Send the queued commands while the window has room and their back off is over
+	 */
+	private void sendQueued() {
+		while (pendingCommands.size() < windowSize && !queuedCommands.isEmpty()
+				&& queuedCommands.peekFirst().notBefore <= System.currentTimeMillis()) {
+			PendingCommand command = queuedCommands.pollFirst();
+			try {
+				channel.write(command.packet);
+				command.deadline = System.currentTimeMillis() + ackTimeout;
+				pendingCommands.put(LumenVCTR60AUtils.getSequenceNumber(command.packet), command);
+			} catch (IOException e) {
+				failures.add(command.name + ": " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Read one reply and update the pending command it belongs to.
+	 * If nothing arrives before the socket timeout, the outstanding commands past their deadline are reported as failed;
+	 * any other read failure fails every outstanding command.
+	 */
+	private void receiveOne() {
+		byte[] response;
+		try {
+			response = channel.read();
+		} catch (IOException e) {
+			long now = System.currentTimeMillis();
+			boolean timeout = e instanceof SocketTimeoutException || e.getCause() instanceof SocketTimeoutException;
+			Iterator<PendingCommand> iterator = pendingCommands.values().iterator();
+			while (iterator.hasNext()) {
+				PendingCommand pending = iterator.next();
+				if (!timeout || now >= pending.deadline) {
+					failures.add(pending.name + ": no " + (pending.socket < 0 ? "ACK" : "completion") + " (" + e.getMessage() + ")");
+					iterator.remove();
+				}
+			}
+			return;
+		}
+		if (LumenVCTR60AUtils.isErrorNotification(response)) {
+			// The device discarded the command, no ACK/COMPLETION will follow
+			PendingCommand rejected = pendingCommands.get(LumenVCTR60AUtils.getSequenceNumber(response));
+			if (rejected != null) {
+				removePending(rejected);
+				failures.add(rejected.name + ": rejected with error notification");
+			}
+			return;
+		}
+		if (response == null || response.length < 10) {
+			return;
+		}
+		int status = response[9] & 0xFF;
+		int socket = status & SOCKET_MASK;
+		PendingCommand pending = findPending(LumenVCTR60AUtils.getSequenceNumber(response), socket);
+		if (pending == null) {
+			// Reply of a command which is not part of this batch
+			return;
+		}
+		switch (status & REPLY_TYPE_MASK) {
+			case ACK:
+				pending.socket = socket;
+				pending.deadline = System.currentTimeMillis() + completionTimeout;
+				break;
+			case COMPLETION:
+				removePending(pending);
+				if (pending.onCompleted != null) {
+					pending.onCompleted.run();
+				}
+				break;
+			case ERROR:
+				removePending(pending);
+				int errorCode = response.length > 10 ? response[10] : 0;
+				if (errorCode == COMMAND_BUFFER_FULL && pending.retries < maxBufferFullRetries) {
+					requeue(pending);
+				} else {
+					failures.add(pending.name + String.format(": error reply 0x%02X", errorCode));
+				}
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Put a command rejected with command buffer full back to the head of the queue, with a fresh sequence number
+	 *
+	 * @param command the command to be re-sent
+	 */
+	private void requeue(PendingCommand command) {
+		LumenVCTR60AUtils.setSequenceNumber(command.packet, sequenceNumbers.getAsInt());
+		command.notBefore = System.currentTimeMillis() + (bufferFullBackoff << command.retries);
+		command.retries++;
+		command.socket = -1;
+		bufferFullRetries++;
+		queuedCommands.addFirst(command);
+	}
+
+	/**
+	 * Find the pending command of a reply by its sequence number. Once ACKed, a command only accepts replies from the socket reported in its ACK.
+	 *
+	 * @param sequenceNumber sequence number of the reply
+	 * @param socket socket number of the reply
+	 * @return PendingCommand the matching command or null if the reply does not belong to this batch
+	 */
+	private PendingCommand findPending(int sequenceNumber, int socket) {
+		PendingCommand pending = pendingCommands.get(sequenceNumber);
+		if (pending != null && (pending.socket < 0 || socket == 0 || pending.socket == socket)) {
+			return pending;
+		}
+		return null;
+	}
+
+	/**
+	 * Remove a pending command from the window
+	 *
+	 * @param pending the command to remove
+	 */
+	private void removePending(PendingCommand pending) {
+		Iterator<PendingCommand> iterator = pendingCommands.values().iterator();
+		while (iterator.hasNext()) {
+			if (iterator.next() == pending) {
+				iterator.remove();
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Command queued or sent and waiting for COMPLETION
+	 */
+	private static class PendingCommand {
+		private final String name;
+		private final byte[] packet;
+		private final Runnable onCompleted;
+		private int socket = -1;
+		private int retries;
+		private long notBefore;
+		private long deadline;
+
+		PendingCommand(String name, byte[] packet, Runnable onCompleted) {
+			this.name = name;
+			this.packet = packet;
+			this.onCompleted = onCompleted;
+		}
+	}
+}
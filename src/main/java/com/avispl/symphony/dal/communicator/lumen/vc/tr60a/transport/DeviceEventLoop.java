@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * This class is used to own every I/O of a device socket on a single thread.
+ * Requests are queued by {@link Priority}, then in submission order, and run one at a time,
+ * so exchanges never interleave and no lock is held by the callers.
+ * A control never waits for more than the request already running: a poll sends its inquiries one request at a time,
+ * so it is not restarted by a control but simply continues once the control is done.
+ * The thread is started on the first request and stopped by {@link #shutdown()}, a later request starts it again.
+ * A restarted thread waits for the stopped one to end its last request, so two threads never own the socket at the same time.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class DeviceEventLoop {
+
+	/**
+	 * Priorities of the requests, the lower ordinal runs first
+	 */
+	public enum Priority {
+		CONTROL,
+		INQUIRY
+	}
+
+	private static final long SHUTDOWN_TIMEOUT = 1000;
+
+	private final Log logger = LogFactory.getLog(getClass());
+	private final String name;
+	private final PriorityBlockingQueue<Task<?>> queue = new PriorityBlockingQueue<>();
+	private final AtomicLong submissionCount = new AtomicLong();
+	private final AtomicLongArray lastQueueDelays = new AtomicLongArray(Priority.values().length);
+	private final ThreadLocal<Boolean> eventLoopThread = ThreadLocal.withInitial(() -> false);
+	private volatile Thread thread;
+	private Thread stoppedThread;
+
+	/**
+	 * Constructs a stopped event loop
+	 *
+	 * @param name name of the event loop thread
+	 */
+	public DeviceEventLoop(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Queue a request
+	 *
+	 * @param priority priority of the request
+	 * @param request the request to be run on the event loop thread
+	 * @param <T> type of the result
+	 * @return CompletableFuture completed with the result of the request
+	 */
+	public <T> CompletableFuture<T> submit(Priority priority, Callable<T> request) {
+		Task<T> task = new Task<>(priority, submissionCount.getAndIncrement(), request);
+		queue.add(task);
+		start();
+		return task.future;
+	}
+
+	/**
+	 * Run a request and wait for its result. A request made from the event loop thread runs immediately.
+	 *
+	 * @param priority priority of the request
+	 * @param request the request to be run on the event loop thread
+	 * @param <T> type of the result
+	 * @return T the result of the request
+	 * @throws Exception the failure of the request
+	 */
+	public <T> T call(Priority priority, Callable<T> request) throws Exception {
+		if (inEventLoop()) {
+			return request.call();
+		}
+		try {
+			return submit(priority, request).get();
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Retrieves the time the last request of a priority waited in the queue
+	 *
+	 * @param priority priority of the requests
+	 * @return long queue delay in milliseconds
+	 */
+	public long getLastQueueDelay(Priority priority) {
+		return lastQueueDelays.get(priority.ordinal());
+	}
+
+	/**
+	 * Check if the current thread is the event loop thread, including a stopped thread still running its last request
+	 *
+	 * @return true if called by a request running on the event loop
+	 */
+	public boolean inEventLoop() {
+		return eventLoopThread.get();
+	}
+
+	/**
+	 * Stop the event loop thread, the queued requests are cancelled.
+	 * The request running is interrupted and awaited for at most {@link #SHUTDOWN_TIMEOUT} milliseconds.
+	 */
+	public void shutdown() {
+		Thread stopping;
+		synchronized (this) {
+			stopping = thread;
+			if (stopping != null) {
+				stopping.interrupt();
+				stoppedThread = stopping;
+				thread = null;
+			}
+			Task<?> task;
+			while ((task = queue.poll()) != null) {
+				task.future.cancel(false);
+			}
+		}
+		if (stopping == null || stopping == Thread.currentThread()) {
+			return;
+		}
+		try {
+			stopping.join(SHUTDOWN_TIMEOUT);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if (stopping.isAlive()) {
+			logger.warn("Event loop " + name + " is still running a request after " + SHUTDOWN_TIMEOUT + "ms, the next thread waits for it");
+		}
+	}
+
+	private synchronized void start() {
+		if (thread != null) {
+			return;
+		}
+		Thread predecessor = stoppedThread;
+		stoppedThread = null;
+		thread = new Thread(() -> run(predecessor), name);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void run(Thread predecessor) {
+		eventLoopThread.set(true);
+		boolean interrupted = false;
+		while (predecessor != null && predecessor.isAlive()) {
+			try {
+				predecessor.join();
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			return;
+		}
+		Thread self = Thread.currentThread();
+		while (thread == self && !self.isInterrupted()) {
+			Task<?> task;
+			try {
+				task = queue.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				break;
+			}
+			lastQueueDelays.set(task.priority.ordinal(), System.currentTimeMillis() - task.submissionTime);
+			task.run();
+		}
+		if (logger.isDebugEnabled()) {
+			logger.debug("Event loop " + name + " stopped");
+		}
+	}
+
+	/**
+	 * Request queued on the event loop
+	 *
+	 * @param <T> type of the result
+	 */
+	private static class Task<T> implements Comparable<Task<?>> {
+		private final Priority priority;
+		private final long order;
+		private final long submissionTime = System.currentTimeMillis();
+		private final Callable<T> request;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		Task(Priority priority, long order, Callable<T> request) {
+			this.priority = priority;
+			this.order = order;
+			this.request = request;
+		}
+
+		void run() {
+			if (future.isDone()) {
+				return;
+			}
+			try {
+				future.complete(request.call());
+			} catch (CancellationException e) {
+				future.cancel(false);
+			} catch (Exception e) {
+				future.completeExceptionally(e);
+			} catch (Error e) {
+				future.completeExceptionally(e);
+				throw e;
+			}
+		}
+
+		@Override
+		public int compareTo(Task<?> other) {
+			int byPriority = priority.compareTo(other.priority);
+			return byPriority != 0 ? byPriority : Long.compare(order, other.order);
+		}
+	}
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import java.io.IOException;
+
+/**
+ * This exception is thrown when the device answers a request with an error notification
+ * (abnormal sequence number or message type): the request was discarded by the device.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ErrorNotificationException extends IOException {
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructs the exception for a device
+	 *
+	 * @param host the host of the device
+	 * @param notification the error notification received, as hex string
+	 */
+	public ErrorNotificationException(String host, String notification) {
+		super("Device " + host + " rejected the request with error notification " + notification);
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * This class is used to keep the sequence numbers of the requests sent to a device and not completed yet.
+ * Requests which timed out stay in the table until they are evicted by newer ones,
+ * so that their late replies can be told apart from replies which do not belong to this adapter.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class InFlightRequests {
+	private final int capacity;
+	private final Map<Integer, Long> requests = new LinkedHashMap<>();
+
+	/**
+	 * Constructs an empty table
+	 *
+	 * @param capacity maximum number of sequence numbers kept, the oldest one is evicted first
+	 */
+	public InFlightRequests(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be at least 1");
+		}
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Register a request which has just been sent
+	 *
+	 * @param sequenceNumber sequence number of the request
+	 */
+	public synchronized void register(int sequenceNumber) {
+		requests.remove(sequenceNumber);
+		requests.put(sequenceNumber, System.currentTimeMillis());
+		Iterator<Integer> iterator = requests.keySet().iterator();
+		while (requests.size() > capacity && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * Register a request unless its sequence number is already in flight
+	 *
+	 * @param sequenceNumber sequence number of the request
+	 * @return true if the sequence number has been registered
+	 */
+	public synchronized boolean tryRegister(int sequenceNumber) {
+		if (requests.containsKey(sequenceNumber)) {
+			return false;
+		}
+		register(sequenceNumber);
+		return true;
+	}
+
+	/**
+	 * Remove a request whose reply has been received
+	 *
+	 * @param sequenceNumber sequence number of the request
+	 */
+	public synchronized void complete(int sequenceNumber) {
+		requests.remove(sequenceNumber);
+	}
+
+	/**
+	 * Check if a sequence number belongs to a request sent by this adapter
+	 *
+	 * @param sequenceNumber sequence number of a reply
+	 * @return true if the request is still in flight or timed out recently
+	 */
+	public synchronized boolean contains(int sequenceNumber) {
+		return requests.containsKey(sequenceNumber);
+	}
+
+	/**
+	 * Retrieves {@code {@link #requests}} size
+	 *
+	 * @return number of requests in flight
+	 */
+	public synchronized int size() {
+		return requests.size();
+	}
+
+	/**
+	 * Remove all requests, e.g. when the sequence number is reset
+	 */
+	public synchronized void clear() {
+		requests.clear();
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AUtils;
+
+/**
+ * This class is used to track the movement commands in progress on the camera (preset recall, pan/tilt drive, direct zoom), by command socket.
+ * The ACK of a command binds its sequence number to the command socket executing it; the socket stays busy
+ * until the COMPLETION or ERROR reply of the command is read, whichever request happens to read it,
+ * so that the sender never blocks the device while the camera moves.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MovementTracker {
+	private static final int REPLY_TYPE_MASK = 0xF0;
+	private static final int COMPLETION = 0x50;
+	private static final int ERROR = 0x60;
+
+	private final Map<Integer, Movement> movements = new TreeMap<>();
+
+	/**
+	 * Record the ACK of a movement command, replacing the movement tracked so far on its socket
+	 *
+	 * @param name the name of the command
+	 * @param sequenceNumber the sequence number of the command
+	 * @param socket the socket number reported by the ACK
+	 * @param now timestamp of the ACK
+	 * @return CompletableFuture completed with the COMPLETION or ERROR reply of the command
+	 */
+	public synchronized CompletableFuture<byte[]> onAck(String name, int sequenceNumber, int socket, long now) {
+		Movement movement = new Movement(name, sequenceNumber, now);
+		Movement replaced = movements.put(socket, movement);
+		if (replaced != null) {
+			replaced.completion.cancel(false);
+		}
+		return movement.completion;
+	}
+
+	/**
+	 * Check a reply read from the device: the COMPLETION or ERROR of a tracked command frees its socket and completes the command
+	 *
+	 * @param packet the packet received from the device
+	 * @return true if the packet ended a tracked movement
+	 */
+	public synchronized boolean onReply(byte[] packet) {
+		if (movements.isEmpty() || packet == null || packet.length < 10) {
+			return false;
+		}
+		int type = packet[9] & REPLY_TYPE_MASK;
+		if (type != COMPLETION && type != ERROR) {
+			return false;
+		}
+		int sequenceNumber = LumenVCTR60AUtils.getSequenceNumber(packet);
+		Iterator<Movement> iterator = movements.values().iterator();
+		while (iterator.hasNext()) {
+			Movement movement = iterator.next();
+			if (movement.sequenceNumber == sequenceNumber) {
+				iterator.remove();
+				movement.completion.complete(packet);
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Retrieves the completion of a tracked command
+	 *
+	 * @param sequenceNumber the sequence number of the command
+	 * @return CompletableFuture of the command, null if the command is not tracked
+	 */
+	public synchronized CompletableFuture<byte[]> getCompletion(int sequenceNumber) {
+		for (Movement movement : movements.values()) {
+			if (movement.sequenceNumber == sequenceNumber) {
+				return movement.completion;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Retrieves the busy sockets
+	 *
+	 * @return List<Integer> the socket numbers of the movements in progress, in ascending order
+	 */
+	public synchronized List<Integer> getSockets() {
+		return new ArrayList<>(movements.keySet());
+	}
+
+	/**
+	 * Retrieves the name of the movement in progress on a socket
+	 *
+	 * @param socket the socket number
+	 * @return the name of the movement in progress, null if the socket is free
+	 */
+	public synchronized String getName(int socket) {
+		Movement movement = movements.get(socket);
+		return movement == null ? null : movement.name;
+	}
+
+	/**
+	 * Check if a movement is in progress
+	 *
+	 * @return true if a socket is busy
+	 */
+	public synchronized boolean isPending() {
+		return !movements.isEmpty();
+	}
+
+	/**
+	 * Stop tracking the movement in progress on a socket once it is cancelled; its completion fails with a CancellationException
+	 *
+	 * @param socket the socket number
+	 */
+	public synchronized void cancel(int socket) {
+		Movement movement = movements.remove(socket);
+		if (movement != null) {
+			movement.completion.completeExceptionally(new CancellationException(movement.name + " was cancelled"));
+		}
+	}
+
+	/**
+	 * Stop tracking the movements whose COMPLETION was not read in time; their completion fails with a TimeoutException
+	 *
+	 * @param now current timestamp
+	 * @param timeout maximum duration in milliseconds of a movement
+	 * @return int the number of expired movements
+	 */
+	public synchronized int expire(long now, long timeout) {
+		int expired = 0;
+		Iterator<Movement> iterator = movements.values().iterator();
+		while (iterator.hasNext()) {
+			Movement movement = iterator.next();
+			if (now - movement.ackTime >= timeout) {
+				iterator.remove();
+				movement.completion.completeExceptionally(new TimeoutException("No completion of " + movement.name + " after " + timeout + "ms"));
+				expired++;
+			}
+		}
+		return expired;
+	}
+
+	/**
+	 * Stop tracking every movement, e.g. when the adapter is destroyed
+	 */
+	public synchronized void clear() {
+		new ArrayList<>(movements.keySet()).forEach(this::cancel);
+	}
+
+	/**
+	 * A movement command acknowledged by the camera
+	 */
+	private static class Movement {
+		private final String name;
+		private final int sequenceNumber;
+		private final long ackTime;
+		private final CompletableFuture<byte[]> completion = new CompletableFuture<>();
+
+		private Movement(String name, int sequenceNumber, long ackTime) {
+			this.name = name;
+			this.sequenceNumber = sequenceNumber;
+			this.ackTime = ackTime;
+		}
+	}
+}
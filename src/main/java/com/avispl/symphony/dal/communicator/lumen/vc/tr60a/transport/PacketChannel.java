@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import java.io.IOException;
+
+/**
+ * This interface is used to define the raw datagram access needed by the transport helpers.
+ * Each call writes or reads exactly one VISCA-over-IP packet, without waiting for ACK/COMPLETION.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface PacketChannel {
+
+	/**
+	 * Write one packet to the device
+	 *
+	 * @param packet the packet to be sent
+	 * @throws IOException if the packet cannot be written
+	 */
+	void write(byte[] packet) throws IOException;
+
+	/**
+	 * Read the next packet received from the device
+	 *
+	 * @return byte[] the received packet
+	 * @throws IOException if nothing is received before the socket timeout
+	 */
+	byte[] read() throws IOException;
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+/**
+ * This class is used to estimate the read timeout of a device from measured round trip times (Jacobson/Karels):
+ * <pre>
+ * RTTVAR = 3/4 * RTTVAR + 1/4 * |SRTT - RTT|
+ * SRTT   = 7/8 * SRTT + 1/8 * RTT
+ * RTO    = SRTT + 4 * RTTVAR, clamped to [minTimeout, maxTimeout]
+ * </pre>
+ * A timeout doubles the RTO (exponential back off) until the next sample is measured.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RttEstimator {
+	private static final double ALPHA = 0.125;
+	private static final double BETA = 0.25;
+	private static final int K = 4;
+
+	private int minTimeout;
+	private int maxTimeout;
+	private double smoothedRtt = -1;
+	private double rttVariance;
+	private int timeout;
+
+	/**
+	 * Constructs an estimator without samples, the timeout starts at {@code maxTimeout}
+	 *
+	 * @param minTimeout lower bound of the timeout in milliseconds
+	 * @param maxTimeout upper bound of the timeout in milliseconds
+	 */
+	public RttEstimator(int minTimeout, int maxTimeout) {
+		setBounds(minTimeout, maxTimeout);
+		this.timeout = this.maxTimeout;
+	}
+
+	/**
+	 * Update the bounds of the timeout
+	 *
+	 * @param minTimeout lower bound of the timeout in milliseconds
+	 * @param maxTimeout upper bound of the timeout in milliseconds
+	 */
+	public synchronized void setBounds(int minTimeout, int maxTimeout) {
+		if (minTimeout < 1 || maxTimeout < minTimeout) {
+			throw new IllegalArgumentException("Invalid timeout bounds: " + minTimeout + " - " + maxTimeout);
+		}
+		this.minTimeout = minTimeout;
+		this.maxTimeout = maxTimeout;
+		this.timeout = clamp(smoothedRtt < 0 ? maxTimeout : computeTimeout());
+	}
+
+	/**
+	 * Feed a round trip time measured on a completed exchange
+	 *
+	 * @param rtt round trip time in milliseconds
+	 */
+	public synchronized void addSample(long rtt) {
+		if (rtt < 0) {
+			return;
+		}
+		if (smoothedRtt < 0) {
+			smoothedRtt = rtt;
+			rttVariance = rtt / 2.0;
+		} else {
+			rttVariance = (1 - BETA) * rttVariance + BETA * Math.abs(smoothedRtt - rtt);
+			smoothedRtt = (1 - ALPHA) * smoothedRtt + ALPHA * rtt;
+		}
+		timeout = clamp(computeTimeout());
+	}
+
+	/**
+	 * Back off after a timeout: the next exchange waits twice as long
+	 */
+	public synchronized void onTimeout() {
+		timeout = clamp((long) timeout * 2);
+	}
+
+	/**
+	 * Retrieves {@code {@link #timeout}}
+	 *
+	 * @return current read timeout (RTO) in milliseconds
+	 */
+	public synchronized int getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Retrieves {@code {@link #maxTimeout}}
+	 *
+	 * @return upper bound of the timeout in milliseconds
+	 */
+	public synchronized int getMaxTimeout() {
+		return maxTimeout;
+	}
+
+	/**
+	 * Retrieves {@code {@link #smoothedRtt}}
+	 *
+	 * @return smoothed round trip time in milliseconds, -1 if nothing has been measured yet
+	 */
+	public synchronized long getSmoothedRtt() {
+		return Math.round(smoothedRtt);
+	}
+
+	/**
+	 * Retrieves {@code {@link #rttVariance}}
+	 *
+	 * @return round trip time variance in milliseconds
+	 */
+	public synchronized long getRttVariance() {
+		return Math.round(rttVariance);
+	}
+
+	private long computeTimeout() {
+		return (long) Math.ceil(smoothedRtt + K * rttVariance);
+	}
+
+	private int clamp(long value) {
+		return (int) Math.max(minTimeout, Math.min(maxTimeout, value));
+	}
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This class is used to generate the sequence numbers of the requests sent to a device.
+ * The sequence number is an unsigned 32 bits counter: it wraps from 0xFFFFFFFF to 0, which is the natural
+ * overflow of an int. A sequence number whose request is still in flight is skipped, so that
+ * pipelined and concurrent requests never share one.
+ *
+ * @author Harry
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SequenceGenerator {
+	private final AtomicInteger nextSequenceNumber = new AtomicInteger();
+	private final InFlightRequests inFlightRequests;
+
+	/**
+	 * Constructs a generator starting at 0
+	 *
+	 * @param inFlightRequests the table where generated sequence numbers are registered
+	 */
+	public SequenceGenerator(InFlightRequests inFlightRequests) {
+		this(inFlightRequests, 0);
+	}
+
+	/**
+	 * Constructs a generator starting at the given sequence number
+	 *
+	 * @param inFlightRequests the table where generated sequence numbers are registered
+	 * @param initialSequenceNumber the first sequence number to be generated
+	 */
+	public SequenceGenerator(InFlightRequests inFlightRequests, int initialSequenceNumber) {
+		this.inFlightRequests = inFlightRequests;
+		this.nextSequenceNumber.set(initialSequenceNumber);
+	}
+
+	/**
+	 * Generate the sequence number of a new request and register it as in flight
+	 *
+	 * @return int the sequence number
+	 */
+	public int next() {
+		while (true) {
+			int sequenceNumber = nextSequenceNumber.getAndIncrement();
+			if (inFlightRequests.tryRegister(sequenceNumber)) {
+				return sequenceNumber;
+			}
+		}
+	}
+
+	/**
+	 * Restart from 0 and forget the requests in flight, after the sequence number of the device has been reset
+	 */
+	public void reset() {
+		inFlightRequests.clear();
+		nextSequenceNumber.set(0);
+	}
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import com.avispl.symphony.api.dal.dto.control.ControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.api.dal.error.ResourceNotReachableException;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.Index;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.PayloadCategory;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.PanTiltDrive;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.ZoomControl;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport.CircuitBreaker;
+
+/**
+ * Unit test for LumenVCTR60ACommunicator
+ * Requests are answered by a fake camera listening on the loopback interface. UDPCommunicator binds its local port to the port
+ * of the device, so the fake camera listens on another loopback address and both sockets reuse the port.
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class LumenVCTR60ACommunicatorMockTest {
+	private FakeCamera camera;
+	private LumenVCTR60ACommunicator communicator;
+
+	@Rule
+	public TemporaryFolder snapshotFolder = new TemporaryFolder();
+
+	@Before
+	public void setUp() throws Exception {
+		camera = new FakeCamera();
+		communicator = new LumenVCTR60ACommunicator();
+		communicator.setHost(FakeCamera.ADDRESS);
+		communicator.setPort(camera.getPort());
+		communicator.setTimeout(500);
+		communicator.setReadTimeoutMax("500");
+		communicator.setSnapshotDirectory(snapshotFolder.getRoot().getAbsolutePath());
+	}
+
+	@After
+	public void destroy() {
+		communicator.destroy();
+		camera.close();
+	}
+
+	/**
+	 * Test LumenVCTR60ACommunicator#inquire with a lost reply
+	 * Expect the inquiry to be retransmitted once with a fresh sequence number and counted as a retransmission
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testInquiryRetransmittedAfterLostReply() throws Exception {
+		camera.dropped = packet -> isPowerInquiry(packet) && camera.countPowerInquiries() == 1;
+		communicator.init();
+		communicator.connect();
+
+		assertEquals(PowerStatus.ON, communicator.inquire(Command.POWER, PayloadCategory.CAMERA).get(5, TimeUnit.SECONDS));
+		List<byte[]> inquiries = camera.getPowerInquiries();
+		assertEquals(2, inquiries.size());
+		assertNotEquals(LumenVCTR60AUtils.getSequenceNumber(inquiries.get(0)), LumenVCTR60AUtils.getSequenceNumber(inquiries.get(1)));
+
+		camera.powerStatus = PowerStatus.OFF;
+		ExtendedStatistics statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+		assertEquals("1", statistics.getStatistics().get(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.RETRANSMISSIONS));
+	}
+
+	/**
+	 * Test LumenVCTR60ACommunicator#getMultipleStatistics while the camera is in standby
+	 * Expect the standby snapshot to be served without traffic until the standby polling interval elapses
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testStandbySnapshotServedWithoutTraffic() throws Exception {
+		camera.powerStatus = PowerStatus.OFF;
+		communicator.setStandbyPollingInterval("60");
+		communicator.init();
+		communicator.connect();
+
+		ExtendedStatistics snapshot = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+		assertEquals(PowerStatus.OFF.getName(), snapshot.getStatistics().get(Command.POWER.getName()));
+		int received = camera.received.size();
+
+		assertSame(snapshot, communicator.getMultipleStatistics().get(0));
+		assertEquals(received, camera.received.size());
+	}
+
+	/**
+	 * Test LumenVCTR60ACommunicator#pollStandby
+	 * Expect only the power status to be inquired in standby, and a full poll once the camera is powered on
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testStandbyPollDetectsPowerOn() throws Exception {
+		camera.powerStatus = PowerStatus.OFF;
+		communicator.setStandbyPollingInterval("0");
+		communicator.init();
+		communicator.connect();
+
+		ExtendedStatistics snapshot = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+		int powerInquiries = camera.countPowerInquiries();
+		int received = camera.received.size();
+		assertSame(snapshot, communicator.getMultipleStatistics().get(0));
+		assertEquals(powerInquiries + 1, camera.countPowerInquiries());
+		assertEquals(received + 1, camera.received.size());
+
+		camera.powerStatus = PowerStatus.ON;
+		ExtendedStatistics statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+		assertNotSame(snapshot, statistics);
+		assertEquals(PowerStatus.ON.getName(), statistics.getStatistics().get(Command.POWER.getName()));
+	}
+
+	/**
+	 * Test LumenVCTR60ACommunicator#destroy followed by LumenVCTR60ACommunicator#init
+	 * Expect the restarted event loop to own the socket again and answer inquiries
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testInquiryAfterDestroyAndReinit() throws Exception {
+		communicator.init();
+		communicator.connect();
+		assertEquals(PowerStatus.ON, communicator.inquire(Command.POWER, PayloadCategory.CAMERA).get(5, TimeUnit.SECONDS));
+
+		communicator.destroy();
+		camera.powerStatus = PowerStatus.OFF;
+		communicator.init();
+		communicator.connect();
+		assertEquals(PowerStatus.OFF, communicator.inquire(Command.POWER, PayloadCategory.CAMERA).get(5, TimeUnit.SECONDS));
+	}
+
+	/**
+	 * Test LumenVCTR60ACommunicator#controlProperties with a pan/tilt drive, the camera driving until the STOP
+	 * Expect the batch to return without waiting for the drive, and the STOP to be sent later as a control of its own, without cancelling the drive
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPanTiltDriveStopIsScheduled() throws Exception {
+		camera.ackOnly = packet -> camera.countPanTiltDrives(PanTiltDrive.UP) > 0 && camera.countPanTiltDrives(PanTiltDrive.STOP) == 0;
+		communicator.init();
+		communicator.connect();
+		ControllableProperty drive = new ControllableProperty();
+		drive.setProperty(Command.PAN_TILT_DRIVE.getName() + LumenVCTR60AConstants.HASH + Index.TWO.getName() + PanTiltDrive.UP.getName());
+		drive.setValue("1");
+
+		long start = System.currentTimeMillis();
+		communicator.controlProperties(Collections.singletonList(drive));
+		assertTrue(System.currentTimeMillis() - start < LumenVCTR60AConstants.PAN_TILT_DRIVE_DURATION);
+		assertEquals(1, camera.countPanTiltDrives(PanTiltDrive.UP));
+		assertEquals(0, camera.countPanTiltDrives(PanTiltDrive.STOP));
+
+		long deadline = System.currentTimeMillis() + 5000;
+		while (camera.countPanTiltDrives(PanTiltDrive.STOP) == 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		assertEquals(1, camera.countPanTiltDrives(PanTiltDrive.STOP));
+		assertEquals(0, camera.countCancels());
+	}
+
+	/**
+	 * Test LumenVCTR60ACommunicator#command while the command buffer of the camera is full
+	 * Expect the command to be queued again on the event loop after the back off, with a fresh sequence number
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testCommandQueuedAgainOnCommandBufferFull() throws Exception {
+		camera.bufferFull = packet -> isZoomCommand(packet) && camera.countZoomCommands() == 1;
+		communicator.init();
+		communicator.connect();
+
+		communicator.command(PayloadCategory.CAMERA, Command.ZOOM, ZoomControl.STOP.getCode()).get(5, TimeUnit.SECONDS);
+		List<byte[]> commands = camera.getZoomCommands();
+		assertEquals(2, commands.size());
+		assertNotEquals(LumenVCTR60AUtils.getSequenceNumber(commands.get(0)), LumenVCTR60AUtils.getSequenceNumber(commands.get(1)));
+	}
+
+	/**
+	 * Test LumenVCTR60ACommunicator#getMultipleStatistics while the camera boots and does not answer the power status probe
+	 * Expect the probe timeout to leave the circuit closed and the read timeout unchanged
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPowerTransitionProbeTimeoutNotCounted() throws Exception {
+		communicator.init();
+		communicator.connect();
+		String readTimeout = LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.READ_TIMEOUT;
+		String circuitState = LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.CIRCUIT_STATE;
+		ExtendedStatistics statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+		String initialReadTimeout = statistics.getStatistics().get(readTimeout);
+		String initialCircuitState = statistics.getStatistics().get(circuitState);
+
+		communicator.command(PayloadCategory.CAMERA, Command.POWER, PowerStatus.ON.getCode()).get(5, TimeUnit.SECONDS);
+		camera.dropped = LumenVCTR60ACommunicatorMockTest::isPowerInquiry;
+		int powerInquiries = camera.countPowerInquiries();
+		Thread.sleep(LumenVCTR60AConstants.POWER_PROBE_INITIAL_DELAY + 100);
+		statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+
+		assertEquals(powerInquiries + 1, camera.countPowerInquiries());
+		assertEquals(initialReadTimeout, statistics.getStatistics().get(readTimeout));
+		assertEquals(initialCircuitState, statistics.getStatistics().get(circuitState));
+	}
+
+	/**
+	 * Test LumenVCTR60ACommunicator#getMultipleStatistics once the camera stops answering and the circuit opens
+	 * Expect the last known values to be marked as stale, with the timestamp of the last full poll
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testOfflineStatisticsMarkedStale() throws Exception {
+		communicator.init();
+		communicator.connect();
+		String staleData = LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.STALE_DATA;
+		String circuitState = LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.CIRCUIT_STATE;
+		ExtendedStatistics statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+		assertNull(statistics.getStatistics().get(staleData));
+
+		camera.dropped = packet -> true;
+		for (int i = 0; i < 5; i++) {
+			try {
+				statistics = (ExtendedStatistics) communicator.getMultipleStatistics().get(0);
+				break;
+			} catch (ResourceNotReachableException e) {
+				// Timeouts are counted until the circuit opens
+			}
+		}
+
+		assertEquals(CircuitBreaker.State.OPEN.getName(), statistics.getStatistics().get(circuitState));
+		assertEquals(LumenVCTR60AConstants.TRUE, statistics.getStatistics().get(staleData));
+		assertNotNull(statistics.getStatistics().get(LumenVCTR60AConstants.COMMUNICATION + LumenVCTR60AConstants.HASH + LumenVCTR60AConstants.SNAPSHOT_TIMESTAMP));
+	}
+
+	private static boolean isZoomCommand(byte[] packet) {
+		return packet.length >= 12 && packet[1] == 0x00 && packet[10] == PayloadCategory.CAMERA.getCode() && packet[11] == Command.ZOOM.getCode()[0];
+	}
+
+	private static boolean isPowerInquiry(byte[] packet) {
+		return packet.length >= 12 && packet[1] == 0x10 && packet[10] == PayloadCategory.CAMERA.getCode() && packet[11] == Command.POWER.getCode()[0];
+	}
+
+	/**
+	 * Fake camera answering VISCA over IP requests: power inquiries with {@link #powerStatus}, other inquiries with a syntax error,
+	 * commands with ACK and COMPLETION, only ACK when {@link #ackOnly} matches, or command buffer full when {@link #bufferFull} matches,
+	 * and sequence number resets with their control reply
+	 */
+	private static class FakeCamera implements Runnable {
+		private static final String ADDRESS = "127.0.0.2";
+		private final DatagramSocket socket;
+		private final Thread thread;
+		private final List<byte[]> received = new CopyOnWriteArrayList<>();
+		private volatile PowerStatus powerStatus = PowerStatus.ON;
+		private volatile Predicate<byte[]> dropped = packet -> false;
+		private volatile Predicate<byte[]> bufferFull = packet -> false;
+		private volatile Predicate<byte[]> ackOnly = packet -> false;
+
+		private FakeCamera() throws SocketException {
+			socket = new DatagramSocket(null);
+			socket.setReuseAddress(true);
+			socket.bind(new InetSocketAddress(ADDRESS, 0));
+			thread = new Thread(this, "Fake camera");
+			thread.setDaemon(true);
+			thread.start();
+		}
+
+		private int getPort() {
+			return socket.getLocalPort();
+		}
+
+		private List<byte[]> getPowerInquiries() {
+			List<byte[]> inquiries = new CopyOnWriteArrayList<>();
+			for (byte[] packet : received) {
+				if (isPowerInquiry(packet)) {
+					inquiries.add(packet);
+				}
+			}
+			return inquiries;
+		}
+
+		private int countPowerInquiries() {
+			return getPowerInquiries().size();
+		}
+
+		private List<byte[]> getZoomCommands() {
+			List<byte[]> commands = new CopyOnWriteArrayList<>();
+			for (byte[] packet : received) {
+				if (isZoomCommand(packet)) {
+					commands.add(packet);
+				}
+			}
+			return commands;
+		}
+
+		private int countZoomCommands() {
+			return getZoomCommands().size();
+		}
+
+		private int countCancels() {
+			int count = 0;
+			for (byte[] packet : received) {
+				if (packet.length == 11 && packet[1] == 0x00 && (packet[9] & 0xF0) == 0x20) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		private int countPanTiltDrives(PanTiltDrive direction) {
+			int count = 0;
+			for (byte[] packet : received) {
+				if (packet.length == 17 && packet[1] == 0x00 && packet[10] == PayloadCategory.PAN_TILTER.getCode() && packet[11] == Command.PAN_TILT_DRIVE.getCode()[0]
+						&& packet[14] == direction.getCode()[0] && packet[15] == direction.getCode()[1]) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		@Override
+		public void run() {
+			byte[] buffer = new byte[64];
+			while (!socket.isClosed()) {
+				DatagramPacket request = new DatagramPacket(buffer, buffer.length);
+				try {
+					socket.receive(request);
+				} catch (IOException e) {
+					return;
+				}
+				byte[] packet = new byte[request.getLength()];
+				System.arraycopy(request.getData(), 0, packet, 0, packet.length);
+				received.add(packet);
+				if (dropped.test(packet)) {
+					continue;
+				}
+				for (byte[] reply : reply(packet)) {
+					try {
+						socket.send(new DatagramPacket(reply, reply.length, request.getSocketAddress()));
+					} catch (IOException e) {
+						return;
+					}
+				}
+			}
+		}
+
+		private byte[][] reply(byte[] packet) {
+			if (packet[0] == 0x02) {
+				return new byte[][] { { 0x02, 0x01, 0x00, 0x01, packet[4], packet[5], packet[6], packet[7], 0x01 } };
+			}
+			if (packet[1] == 0x10) {
+				byte[] payload = isPowerInquiry(packet) ? new byte[] { (byte) 0x90, 0x50, powerStatus.getCode(), (byte) 0xFF }
+						: new byte[] { (byte) 0x90, 0x60, 0x02, (byte) 0xFF };
+				return new byte[][] { viscaReply(packet, payload) };
+			}
+			if (bufferFull.test(packet)) {
+				return new byte[][] { viscaReply(packet, new byte[] { (byte) 0x90, 0x61, 0x03, (byte) 0xFF }) };
+			}
+			if (ackOnly.test(packet)) {
+				return new byte[][] { viscaReply(packet, new byte[] { (byte) 0x90, 0x41, (byte) 0xFF }) };
+			}
+			return new byte[][] { viscaReply(packet, new byte[] { (byte) 0x90, 0x41, (byte) 0xFF }), viscaReply(packet, new byte[] { (byte) 0x90, 0x51, (byte) 0xFF }) };
+		}
+
+		private static byte[] viscaReply(byte[] request, byte[] payload) {
+			byte[] reply = new byte[8 + payload.length];
+			reply[0] = 0x01;
+			reply[1] = 0x11;
+			reply[3] = (byte) payload.length;
+			System.arraycopy(request, 4, reply, 4, 4);
+			System.arraycopy(payload, 0, reply, 8, payload.length);
+			return reply;
+		}
+
+		private void close() {
+			socket.close();
+		}
+	}
+}
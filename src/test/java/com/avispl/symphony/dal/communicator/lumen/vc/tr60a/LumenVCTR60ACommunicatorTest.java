@@ -7,6 +7,8 @@ import static com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60ACo
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Assert;
@@ -21,7 +23,9 @@ import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
 import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.Index;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.StatisticsProperty;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.PayloadCategory;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.PowerStatus;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.PresetControl;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.RealDeviceTest;
 
@@ -106,4 +110,15 @@ public class LumenVCTR60ACommunicatorTest {
 			}
 		}
 	}
+
+	/**
+	 * Test LumenVCTR60ACommunicator#inquire asynchronously
+	 * Expect the power status to be completed without blocking the caller
+	 */
+	@Test
+	@Category(RealDeviceTest.class)
+	public void testAsyncPowerInquiry() throws Exception {
+		CompletableFuture<PowerStatus> powerStatus = averPTZCommunicator.inquire(Command.POWER, PayloadCategory.CAMERA);
+		Assert.assertNotNull(powerStatus.get(10, TimeUnit.SECONDS));
+	}
 }
@@ -6,6 +6,8 @@ package com.avispl.symphony.dal.communicator.lumen.vc.tr60a;
 import static com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AUtils.buildSendPacket;
 import static com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AUtils.convertOneByteNumberToTwoBytesArray;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -14,6 +16,7 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.SendPacket;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.ControlPayload;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.PayloadCategory;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.PayloadType;
 import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command.Command;
@@ -914,4 +917,40 @@ public class LumenVCTR60AUtilsTest {
 
 		assertArrayEquals(SendPacket.LAST_PRESET_RECALLED.getCode(), actualPacketSlowPanTiltInq);
 	}
+
+	/**
+	 * Test LumenVCTR60AUtils#buildControlPacket success
+	 * Expect build a control command for sequence number reset which match expected packet
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBuildControlPacketReset() {
+		byte[] actualPacketReset = LumenVCTR60AUtils.buildControlPacket(0, ControlPayload.RESET);
+
+		assertArrayEquals(new byte[] { 0x02, 0x00, 0x00, 0x01, 0x00, 0x00, 0x00, 0x00, 0x01 }, actualPacketReset);
+	}
+
+	/**
+	 * Test LumenVCTR60AUtils#isErrorNotification
+	 * Expect only control replies with an error payload to be error notifications
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testIsErrorNotification() {
+		assertTrue(LumenVCTR60AUtils.isErrorNotification(new byte[] { 0x02, 0x01, 0x00, 0x02, 0x00, 0x00, 0x00, 0x05, 0x0F, 0x01 }));
+		assertFalse(LumenVCTR60AUtils.isErrorNotification(new byte[] { 0x02, 0x01, 0x00, 0x01, 0x00, 0x00, 0x00, 0x00, 0x01 }));
+		assertFalse(LumenVCTR60AUtils.isErrorNotification(new byte[] { 0x01, 0x11, 0x00, 0x03, 0x00, 0x00, 0x00, 0x05, (byte) 0x90, 0x51, (byte) 0xFF }));
+	}
+
+	/**
+	 * Test LumenVCTR60AUtils#buildCancelPacket success
+	 * Expect build a cancel command for the given socket which match expected packet
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBuildCancelPacket() {
+		byte[] actualPacketCancel = LumenVCTR60AUtils.buildCancelPacket(cameraID, sequenceNumber, 2);
+
+		assertArrayEquals(new byte[] { 0x01, 0x00, 0x00, 0x03, 0x00, 0x00, 0x00, 0x01, (byte) 0x81, 0x22, (byte) 0xFF }, actualPacketCancel);
+	}
 }
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for CapabilityCache
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class CapabilityCacheTest {
+	private static final byte CAMERA = 0x04;
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * Test CapabilityCache#setFirmwareVersion
+	 * Expect unsupported commands to be kept for the same firmware and dropped when it changes
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testFirmwareChangeClearsCache() {
+		CapabilityCache cache = new CapabilityCache();
+		cache.setFirmwareVersion("1.0");
+		cache.markUnsupported(CAMERA, Command.ANTI_FLICK);
+		assertTrue(cache.isUnsupported(CAMERA, Command.ANTI_FLICK));
+		assertFalse(cache.isUnsupported(CAMERA, Command.WDR_OPTION));
+
+		cache.setFirmwareVersion("1.0");
+		assertEquals(1, cache.size());
+
+		cache.setFirmwareVersion("1.1");
+		assertFalse(cache.isUnsupported(CAMERA, Command.ANTI_FLICK));
+		assertEquals(0, cache.size());
+	}
+
+	/**
+	 * Test CapabilityCache#setFirmwareVersion with the placeholders of a failed firmware read
+	 * Expect unsupported commands to be kept, and a later read of the same firmware to keep them too
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPlaceholderFirmwareIgnored() {
+		CapabilityCache cache = new CapabilityCache();
+		cache.setFirmwareVersion("1.0");
+		cache.markUnsupported(CAMERA, Command.ANTI_FLICK);
+
+		cache.setFirmwareVersion("None");
+		cache.setFirmwareVersion("N/A");
+		cache.setFirmwareVersion("");
+		cache.setFirmwareVersion(null);
+		cache.setFirmwareVersion("1.0");
+		assertTrue(cache.isUnsupported(CAMERA, Command.ANTI_FLICK));
+	}
+
+	/**
+	 * Test CapabilityCache#enablePersistence
+	 * Expect the unsupported commands to be loaded back by another cache
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPersistence() throws IOException {
+		Path file = temporaryFolder.getRoot().toPath().resolve("device.capabilities");
+		CapabilityCache cache = new CapabilityCache();
+		cache.enablePersistence(file, Runnable::run);
+		cache.setFirmwareVersion("1.0");
+		cache.markUnsupported(CAMERA, Command.ANTI_FLICK);
+		cache.markUnsupported(CAMERA, Command.WDR_OPTION);
+
+		CapabilityCache loaded = new CapabilityCache();
+		loaded.enablePersistence(file, Runnable::run);
+		assertEquals(2, loaded.size());
+		assertTrue(loaded.isUnsupported(CAMERA, Command.WDR_OPTION));
+
+		loaded.setFirmwareVersion("2.0");
+		assertEquals(0, loaded.size());
+	}
+}
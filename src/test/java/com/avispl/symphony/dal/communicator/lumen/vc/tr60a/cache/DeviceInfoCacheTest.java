@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.GeneralProperty;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for DeviceInfoCache
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class DeviceInfoCacheTest {
+
+	/**
+	 * Test DeviceInfoCache#isFresh
+	 * Expect identity properties to stay fresh, network properties to expire and tracking LED to be read every cycle
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testRefreshPolicies() {
+		DeviceInfoCache deviceInfoCache = new DeviceInfoCache(1000);
+		deviceInfoCache.update(GeneralProperty.SERIAL_NUMBER, "S1", 0);
+		deviceInfoCache.update(GeneralProperty.IPV4_ADDRESS, "10.0.0.1", 0);
+		deviceInfoCache.update(GeneralProperty.SYSTEM_TRACKING_LED, "On", 0);
+
+		assertTrue(deviceInfoCache.isFresh(GeneralProperty.SERIAL_NUMBER, 5000));
+		assertTrue(deviceInfoCache.isFresh(GeneralProperty.IPV4_ADDRESS, 999));
+		assertFalse(deviceInfoCache.isFresh(GeneralProperty.IPV4_ADDRESS, 1000));
+		assertFalse(deviceInfoCache.isFresh(GeneralProperty.SYSTEM_TRACKING_LED, 0));
+	}
+
+	/**
+	 * Test DeviceInfoCache#update with a new firmware version
+	 * Expect every cached property to be dropped
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testInvalidateOnFirmwareChange() {
+		DeviceInfoCache deviceInfoCache = new DeviceInfoCache(1000);
+		deviceInfoCache.update(GeneralProperty.FIRMWARE_VERSION, "1.0", 0);
+		deviceInfoCache.update(GeneralProperty.SERIAL_NUMBER, "S1", 0);
+
+		assertFalse(deviceInfoCache.update(GeneralProperty.FIRMWARE_VERSION, "1.0", 1000));
+		assertTrue(deviceInfoCache.update(GeneralProperty.FIRMWARE_VERSION, "1.1", 2000));
+		assertNull(deviceInfoCache.get(GeneralProperty.SERIAL_NUMBER));
+		assertFalse(deviceInfoCache.isFresh(GeneralProperty.SERIAL_NUMBER, 2000));
+	}
+
+	/**
+	 * Test DeviceInfoCache#update with the placeholder of a failed firmware read
+	 * Expect the known firmware version and the other properties to be kept
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testPlaceholderIdentityIgnored() {
+		DeviceInfoCache deviceInfoCache = new DeviceInfoCache(1000);
+		deviceInfoCache.update(GeneralProperty.FIRMWARE_VERSION, "1.0", 0);
+		deviceInfoCache.update(GeneralProperty.SERIAL_NUMBER, "S1", 0);
+
+		assertFalse(deviceInfoCache.update(GeneralProperty.FIRMWARE_VERSION, "None", 1000));
+		assertEquals("1.0", deviceInfoCache.get(GeneralProperty.FIRMWARE_VERSION));
+		assertEquals("S1", deviceInfoCache.get(GeneralProperty.SERIAL_NUMBER));
+		assertFalse(deviceInfoCache.update(GeneralProperty.FIRMWARE_VERSION, "1.0", 2000));
+	}
+}
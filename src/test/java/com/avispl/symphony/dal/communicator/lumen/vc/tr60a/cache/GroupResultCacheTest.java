@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.PollingGroup;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for GroupResultCache
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class GroupResultCacheTest {
+
+	/**
+	 * Test GroupResultCache#update
+	 * Expect the last good values to be kept per group and not to change with the collected map
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testLastGoodValuesPerGroup() {
+		GroupResultCache cache = new GroupResultCache();
+		assertNull(cache.get(PollingGroup.ZOOM));
+
+		Map<String, String> statistics = new HashMap<>();
+		statistics.put("Exposure#Mode", "FullAuto");
+		cache.update(PollingGroup.EXPOSURE, statistics, new ArrayList<>(), 1000);
+		statistics.put("Exposure#Mode", "Manual");
+
+		GroupResultCache.Result result = cache.get(PollingGroup.EXPOSURE);
+		assertEquals(1000, result.getTimestamp());
+		assertEquals("FullAuto", result.getStatistics().get("Exposure#Mode"));
+		assertNull(cache.get(PollingGroup.FOCUS));
+
+		cache.update(PollingGroup.EXPOSURE, Collections.singletonMap("Exposure#Mode", "Manual"), new ArrayList<>(), 2000);
+		assertEquals("Manual", cache.get(PollingGroup.EXPOSURE).getStatistics().get("Exposure#Mode"));
+	}
+}
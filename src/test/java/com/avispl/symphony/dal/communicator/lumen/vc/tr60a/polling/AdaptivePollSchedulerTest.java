@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.command.Command;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for AdaptivePollScheduler
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class AdaptivePollSchedulerTest {
+
+	/**
+	 * Test AdaptivePollScheduler#record
+	 * Expect the interval to double while the value does not change, up to the maximum, and to drop to 0 on a change
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testIntervalBackOff() {
+		AdaptivePollScheduler scheduler = new AdaptivePollScheduler(1000, 5000);
+		scheduler.record(Command.WDR_OPTION, "Off", 0);
+		assertEquals(0, scheduler.getInterval(Command.WDR_OPTION));
+		scheduler.record(Command.WDR_OPTION, "Off", 10);
+		assertEquals(1000, scheduler.getInterval(Command.WDR_OPTION));
+		scheduler.record(Command.WDR_OPTION, "Off", 20);
+		assertEquals(2000, scheduler.getInterval(Command.WDR_OPTION));
+		scheduler.record(Command.WDR_OPTION, "Off", 30);
+		scheduler.record(Command.WDR_OPTION, "Off", 40);
+		assertEquals(5000, scheduler.getInterval(Command.WDR_OPTION));
+		assertEquals(1, scheduler.countSlowed());
+
+		assertFalse(scheduler.isDue(Command.WDR_OPTION, 5039));
+		assertTrue(scheduler.isDue(Command.WDR_OPTION, 5040));
+		assertEquals("Off", scheduler.get(Command.WDR_OPTION));
+
+		scheduler.record(Command.WDR_OPTION, "On", 5040);
+		assertEquals(0, scheduler.getInterval(Command.WDR_OPTION));
+		assertTrue(scheduler.isDue(Command.WDR_OPTION, 5040));
+	}
+
+	/**
+	 * Test AdaptivePollScheduler#resetGroup and AdaptivePollScheduler#setMaxInterval
+	 * Expect a reset to make the inquiries of the group due and a lower maximum to cap the current intervals
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testResetAndCap() {
+		AdaptivePollScheduler scheduler = new AdaptivePollScheduler(1000, 60000);
+		for (long now = 0; now < 5; now++) {
+			scheduler.record(Command.ANTI_FLICK, "50Hz", now);
+			scheduler.record(Command.D_ZOOM_LIMIT, "x1", now);
+		}
+		assertFalse(scheduler.isDue(Command.ANTI_FLICK, 100));
+		assertFalse(scheduler.isDue(Command.D_ZOOM_LIMIT, 100));
+
+		scheduler.resetGroup(Command.EXPOSURE.getName());
+		assertTrue(scheduler.isDue(Command.ANTI_FLICK, 100));
+		assertFalse(scheduler.isDue(Command.D_ZOOM_LIMIT, 100));
+
+		scheduler.setMaxInterval(0);
+		assertTrue(scheduler.isDue(Command.D_ZOOM_LIMIT, 100));
+		assertEquals(0, scheduler.countSlowed());
+	}
+}
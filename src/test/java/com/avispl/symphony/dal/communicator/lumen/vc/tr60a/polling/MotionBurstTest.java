@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for MotionBurst
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class MotionBurstTest {
+
+	/**
+	 * Test MotionBurst#next
+	 * Expect the interval to stay at the minimum while positions change and the burst to end once they are stable
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBurstDecays() {
+		MotionBurst burst = new MotionBurst(250, 2000, 30000);
+		long generation = burst.start(0);
+		assertEquals(250, burst.next(generation, true, 250));
+		assertEquals(250, burst.next(generation, true, 500));
+		assertEquals(500, burst.next(generation, false, 750));
+		assertEquals(1000, burst.next(generation, false, 1250));
+		assertEquals(2000, burst.next(generation, false, 2250));
+		assertTrue(burst.isActive());
+		assertEquals(-1, burst.next(generation, false, 4250));
+		assertFalse(burst.isActive());
+	}
+
+	/**
+	 * Test MotionBurst#start
+	 * Expect a new move to replace the burst in progress and a burst to end after its maximum duration
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBurstReplacedAndBounded() {
+		MotionBurst burst = new MotionBurst(250, 2000, 1000);
+		long first = burst.start(0);
+		long second = burst.start(100);
+		assertFalse(burst.isCurrent(first));
+		assertEquals(-1, burst.next(first, true, 350));
+		assertTrue(burst.isCurrent(second));
+
+		burst.stop(first);
+		assertTrue(burst.isActive());
+		assertEquals(-1, burst.next(second, true, 1100));
+		assertFalse(burst.isActive());
+	}
+}
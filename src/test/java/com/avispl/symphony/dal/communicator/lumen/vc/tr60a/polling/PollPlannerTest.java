@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.PollingGroup;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for PollPlanner
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PollPlannerTest {
+
+	/**
+	 * Test PollPlanner#plan
+	 * Expect groups ordered by tier, the deferred groups of the previous cycle first
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDeferredGroupsCarryOver() {
+		PollPlanner planner = new PollPlanner();
+		List<PollingGroup> plan = planner.plan();
+		assertEquals(PollingGroup.values().length, plan.size());
+		for (int i = 1; i < plan.size(); i++) {
+			assertTrue(plan.get(i - 1).getTier() <= plan.get(i).getTier());
+		}
+
+		planner.defer(Arrays.asList(PollingGroup.PRESET, PollingGroup.ZOOM));
+		plan = planner.plan();
+		assertEquals(Arrays.asList(PollingGroup.ZOOM, PollingGroup.PRESET), plan.subList(0, 2));
+
+		planner.defer(Collections.emptyList());
+		assertEquals(PollingGroup.EXPOSURE, planner.plan().get(0));
+	}
+
+	/**
+	 * Test PollPlanner#defer
+	 * Expect every group to be polled within a few cycles when the budget of a cycle only fits two groups
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTightBudgetPollsEveryGroup() {
+		PollPlanner planner = new PollPlanner();
+		int groupsPerCycle = 2;
+		int maxGap = (PollingGroup.values().length + groupsPerCycle - 1) / groupsPerCycle;
+		Map<PollingGroup, Integer> lastPolled = new EnumMap<>(PollingGroup.class);
+		for (int cycle = 1; cycle <= 40; cycle++) {
+			List<PollingGroup> plan = planner.plan();
+			for (PollingGroup group : plan.subList(0, groupsPerCycle)) {
+				lastPolled.put(group, cycle);
+			}
+			planner.defer(plan.subList(groupsPerCycle, plan.size()));
+			for (PollingGroup group : PollingGroup.values()) {
+				if (cycle >= maxGap) {
+					assertTrue(group + " not polled for " + maxGap + " cycles", cycle - lastPolled.getOrDefault(group, 0) < maxGap);
+				}
+			}
+		}
+		assertEquals(EnumSet.allOf(PollingGroup.class), lastPolled.keySet());
+	}
+}
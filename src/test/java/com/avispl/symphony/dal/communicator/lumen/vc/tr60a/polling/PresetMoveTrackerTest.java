@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.polling;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for PresetMoveTracker
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PresetMoveTrackerTest {
+
+	/**
+	 * Test PresetMoveTracker#onStable
+	 * Expect the travel time to run from the recall to the last observed motion and to be counted in the preset histogram
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testArrival() throws Exception {
+		PresetMoveTracker tracker = new PresetMoveTracker();
+		long move = tracker.start(5, 1000);
+		tracker.onCompletion(move, 1100);
+		CompletableFuture<Long> arrival = tracker.getArrival();
+		tracker.onMotion(2000);
+		tracker.onMotion(3500);
+		assertFalse(tracker.isArrived());
+
+		tracker.onStable();
+		assertTrue(tracker.isArrived());
+		assertEquals(2500, tracker.getLastTravelTime());
+		assertEquals(Long.valueOf(2500), arrival.get());
+		assertArrayEquals(new long[] { 0, 0, 1, 0, 0, 0 }, tracker.getHistograms().get(5));
+		assertEquals("<1s: 0, 1-2s: 0, 2-4s: 1, 4-8s: 0, 8-16s: 0, >=16s: 0", PresetMoveTracker.formatHistogram(tracker.getHistograms().get(5)));
+	}
+
+	/**
+	 * Test PresetMoveTracker#cancel
+	 * Expect a superseded recall to fail its arrival and not to be counted
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testSupersededRecall() {
+		PresetMoveTracker tracker = new PresetMoveTracker();
+		long firstMove = tracker.start(5, 0);
+		CompletableFuture<Long> first = tracker.getArrival();
+		tracker.start(9, 200);
+		assertTrue(first.isCancelled());
+		tracker.onCompletion(firstMove, 300);
+
+		tracker.cancel();
+		tracker.onStable();
+		assertTrue(tracker.getArrival().isCompletedExceptionally());
+		assertFalse(tracker.isArrived());
+		assertEquals(-1, tracker.getLastTravelTime());
+		assertTrue(tracker.getHistograms().isEmpty());
+	}
+
+	/**
+	 * Test PresetMoveTracker#onCompletion read after the positions became stable
+	 * Expect the arrival to wait for the COMPLETION and the travel time to run until it was read
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testArrivalWaitsForCompletion() throws Exception {
+		PresetMoveTracker tracker = new PresetMoveTracker();
+		long move = tracker.start(5, 1000);
+		tracker.onMotion(2000);
+		tracker.onStable();
+		assertFalse(tracker.isArrived());
+
+		tracker.onCompletion(move - 1, 3000);
+		assertFalse(tracker.isArrived());
+		tracker.onCompletion(move, 4000);
+		assertTrue(tracker.isArrived());
+		assertEquals(Long.valueOf(3000), tracker.getArrival().get());
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.power;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.enums.payload.param.PowerStatus;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for PowerStateMachine
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class PowerStateMachineTest {
+
+	/**
+	 * Test PowerStateMachine#onReport during power on
+	 * Expect probes with back off and ON as soon as the camera reports it
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTurningOnEndsWhenCameraReportsOn() {
+		PowerStateMachine powerStateMachine = new PowerStateMachine(1000, 4000, 90000);
+		powerStateMachine.onCommand(PowerStatus.ON, 0);
+		assertEquals(PowerState.TURNING_ON, powerStateMachine.getState());
+		assertFalse(powerStateMachine.isProbeDue(500));
+		assertTrue(powerStateMachine.isProbeDue(1000));
+
+		powerStateMachine.onReport(PowerStatus.OFF, 1000);
+		assertFalse(powerStateMachine.isProbeDue(2999));
+		assertTrue(powerStateMachine.isProbeDue(3000));
+
+		powerStateMachine.onProbeFailure(3000);
+		assertTrue(powerStateMachine.isProbeDue(7000));
+
+		powerStateMachine.onReport(PowerStatus.ON, 7000);
+		assertEquals(PowerState.ON, powerStateMachine.getState());
+		assertFalse(powerStateMachine.isTransitioning());
+	}
+
+	/**
+	 * Test PowerStateMachine#onReport after the transition timeout
+	 * Expect the last reported state to be taken
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTransitionTimeout() {
+		PowerStateMachine powerStateMachine = new PowerStateMachine(1000, 4000, 10000);
+		powerStateMachine.onCommand(PowerStatus.OFF, 0);
+		powerStateMachine.onReport(PowerStatus.ON, 1000);
+		assertEquals(PowerState.TURNING_OFF, powerStateMachine.getState());
+
+		powerStateMachine.onProbeFailure(10000);
+		assertEquals(PowerState.ON, powerStateMachine.getState());
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.snapshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for SnapshotStore
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class SnapshotStoreTest {
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	/**
+	 * Test SnapshotStore#saveAsync then SnapshotStore#load
+	 * Expect the persisted statistics to be loaded back
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testSaveAndLoad() {
+		Path file = temporaryFolder.getRoot().toPath().resolve("device.snapshot");
+		SnapshotStore snapshotStore = new SnapshotStore(file, Runnable::run);
+		Map<String, String> values = new HashMap<>();
+		values.put("Power", "On");
+		values.put("Exposure#Mode", "Full Auto");
+		snapshotStore.saveAsync(values);
+
+		SnapshotStore.Snapshot snapshot = snapshotStore.load();
+		assertNotNull(snapshot);
+		assertEquals(values, snapshot.getValues());
+	}
+
+	/**
+	 * Test SnapshotStore#load with missing or invalid file
+	 * Expect no snapshot
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testLoadInvalidFile() throws IOException {
+		Path file = temporaryFolder.getRoot().toPath().resolve("device.snapshot");
+		SnapshotStore snapshotStore = new SnapshotStore(file, Runnable::run);
+		assertNull(snapshotStore.load());
+
+		Files.write(file, new byte[] { 0x01, 0x02, 0x03 });
+		assertNull(snapshotStore.load());
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.snapshot;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.api.dal.dto.control.AdvancedControllableProperty;
+import com.avispl.symphony.api.dal.dto.monitor.ExtendedStatistics;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for StatisticsPublisher
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class StatisticsPublisherTest {
+
+	/**
+	 * Test StatisticsPublisher#applyDelta before the first publication
+	 * Expect the changes to be dropped without failure
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testApplyDeltaBeforePublish() {
+		StatisticsPublisher publisher = new StatisticsPublisher();
+		assertFalse(publisher.applyDelta(Collections.singletonMap("Mirror#Flip", "On"), new ArrayList<>()));
+		assertNull(publisher.get());
+	}
+
+	/**
+	 * Test StatisticsPublisher#applyDelta
+	 * Expect a new snapshot with the changes, the previous snapshot and its controls to be left untouched
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testApplyDeltaCopyOnWrite() {
+		StatisticsPublisher publisher = new StatisticsPublisher();
+		Map<String, String> statistics = new HashMap<>();
+		statistics.put("Mirror#Flip", "Off");
+		statistics.put("Power", "On");
+		List<AdvancedControllableProperty> controls = new ArrayList<>();
+		AdvancedControllableProperty flip = new AdvancedControllableProperty("Mirror#Flip", new Date(), new AdvancedControllableProperty.Switch(), "Off");
+		controls.add(flip);
+		ExtendedStatistics first = publisher.publish(statistics, controls, new HashMap<>());
+		statistics.put("Power", "Off");
+		assertEquals("On", first.getStatistics().get("Power"));
+
+		assertTrue(publisher.applyDelta(Collections.singletonMap("Mirror#Flip", "On"), new ArrayList<>()));
+		ExtendedStatistics second = publisher.get();
+		assertNotSame(first, second);
+		assertEquals("On", second.getStatistics().get("Mirror#Flip"));
+		assertEquals("On", second.getStatistics().get("Power"));
+		assertEquals("On", second.getControllableProperties().get(0).getValue());
+		assertEquals("Off", first.getStatistics().get("Mirror#Flip"));
+		assertEquals("Off", flip.getValue());
+	}
+
+	/**
+	 * Test StatisticsPublisher#applyDelta with a changed controllable property
+	 * Expect a copy of the property to be published, left untouched when the caller modifies the property afterwards
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testApplyDeltaCopiesControls() {
+		StatisticsPublisher publisher = new StatisticsPublisher();
+		AdvancedControllableProperty flip = new AdvancedControllableProperty("Mirror#Flip", new Date(), new AdvancedControllableProperty.Switch(), "Off");
+		ExtendedStatistics first = publisher.publish(Collections.singletonMap("Mirror#Flip", "Off"), Collections.singletonList(flip), new HashMap<>());
+
+		AdvancedControllableProperty changed = new AdvancedControllableProperty("Mirror#Flip", new Date(), new AdvancedControllableProperty.Switch(), "On");
+		assertTrue(publisher.applyDelta(Collections.singletonMap("Mirror#Flip", "On"), Collections.singletonList(changed)));
+		changed.setValue("Off");
+
+		AdvancedControllableProperty published = publisher.get().getControllableProperties().get(0);
+		assertNotSame(changed, published);
+		assertEquals("On", published.getValue());
+		assertEquals("Off", first.getControllableProperties().get(0).getValue());
+	}
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for CircuitBreaker
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class CircuitBreakerTest {
+
+	/**
+	 * Test CircuitBreaker#recordTimeout
+	 * Expect the circuit to open after consecutive timeouts only
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testOpenAfterConsecutiveTimeouts() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(3);
+		circuitBreaker.recordTimeout();
+		circuitBreaker.recordTimeout();
+		circuitBreaker.recordSuccess();
+		circuitBreaker.recordTimeout();
+		circuitBreaker.recordTimeout();
+		assertFalse(circuitBreaker.isOpen());
+
+		circuitBreaker.recordTimeout();
+		assertTrue(circuitBreaker.isOpen());
+	}
+
+	/**
+	 * Test CircuitBreaker#recordSuccess while open
+	 * Expect a half-open circuit which closes on the next reply and opens again on the next timeout
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testHalfOpenAfterProbe() {
+		CircuitBreaker circuitBreaker = new CircuitBreaker(1);
+		circuitBreaker.recordTimeout();
+		circuitBreaker.recordSuccess();
+		assertEquals(CircuitBreaker.State.HALF_OPEN, circuitBreaker.getState());
+		circuitBreaker.recordTimeout();
+		assertTrue(circuitBreaker.isOpen());
+
+		circuitBreaker.recordSuccess();
+		circuitBreaker.recordSuccess();
+		assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+	}
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AUtils;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for CommandPipeline
+ * Replies are played back by a fake channel
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class CommandPipelineTest {
+
+	/**
+	 * Test CommandPipeline#submit success
+	 * Expect two commands to be written before any reply is read and completions matched out of order
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testSubmitWithWindowOfTwo() {
+		FakeChannel channel = new FakeChannel();
+		channel.replies.add(reply(1, 0x41));
+		channel.replies.add(reply(2, 0x42));
+		channel.replies.add(reply(2, 0x52));
+		channel.replies.add(reply(1, 0x51));
+		channel.replies.add(reply(3, 0x41));
+		channel.replies.add(reply(3, 0x51));
+
+		CommandPipeline pipeline = createPipeline(channel);
+		pipeline.submit("First", command(1));
+		pipeline.submit("Second", command(2));
+		assertEquals(0, channel.readCount);
+		pipeline.submit("Third", command(3));
+		drain(pipeline);
+
+		assertEquals(3, channel.written.size());
+		assertEquals(0, pipeline.getOutstandingCount());
+		assertTrue(pipeline.getFailures().isEmpty());
+	}
+
+	/**
+	 * Test CommandPipeline#drain with error and lost reply
+	 * Expect both failures to be aggregated
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDrainAggregatesFailures() {
+		FakeChannel channel = new FakeChannel();
+		channel.replies.add(reply(1, 0x41));
+		channel.replies.add(new byte[] { 0x01, 0x11, 0x00, 0x04, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x61, 0x41, (byte) 0xFF });
+
+		CommandPipeline pipeline = createPipeline(channel);
+		pipeline.submit("First", command(1));
+		pipeline.submit("Second", command(2));
+		drain(pipeline);
+
+		assertEquals(2, pipeline.getFailures().size());
+		assertEquals(0, pipeline.getOutstandingCount());
+	}
+
+	/**
+	 * Test CommandPipeline#drain with error notification
+	 * Expect the rejected command to fail without waiting for its completion
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testErrorNotificationRejectsCommand() {
+		FakeChannel channel = new FakeChannel();
+		channel.replies.add(new byte[] { 0x02, 0x01, 0x00, 0x02, 0x00, 0x00, 0x00, 0x01, 0x0F, 0x01 });
+		channel.replies.add(reply(2, 0x41));
+		channel.replies.add(reply(2, 0x51));
+
+		CommandPipeline pipeline = createPipeline(channel);
+		pipeline.submit("First", command(1));
+		pipeline.submit("Second", command(2));
+		drain(pipeline);
+
+		assertEquals(1, pipeline.getFailures().size());
+		assertTrue(pipeline.getFailures().get(0).startsWith("First"));
+	}
+
+	/**
+	 * Test CommandPipeline#drain with command buffer full
+	 * Expect the rejected command to be re-sent with a fresh sequence number instead of failing
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testRetryOnCommandBufferFull() {
+		FakeChannel channel = new FakeChannel();
+		channel.replies.add(new byte[] { 0x01, 0x11, 0x00, 0x04, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x60, 0x03, (byte) 0xFF });
+		channel.replies.add(reply(100, 0x41));
+		channel.replies.add(reply(100, 0x51));
+
+		CommandPipeline pipeline = createPipeline(channel);
+		pipeline.submit("First", command(1));
+		drain(pipeline);
+
+		assertEquals(2, channel.written.size());
+		assertEquals(100, LumenVCTR60AUtils.getSequenceNumber(channel.written.get(1)));
+		assertEquals(1, pipeline.getBufferFullRetries());
+		assertTrue(pipeline.getFailures().isEmpty());
+	}
+
+	/**
+	 * Test CommandPipeline#drain with command buffer full and a long back off
+	 * Expect drain to return the remaining back off instead of waiting for it, the command staying queued
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testDrainReturnsBackoff() {
+		FakeChannel channel = new FakeChannel();
+		channel.replies.add(new byte[] { 0x01, 0x11, 0x00, 0x04, 0x00, 0x00, 0x00, 0x01, (byte) 0x90, 0x60, 0x03, (byte) 0xFF });
+
+		CommandPipeline pipeline = new CommandPipeline(channel, () -> 100, 2, 4, 3, 60000, 0, 60000);
+		pipeline.submit("First", command(1));
+		long start = System.currentTimeMillis();
+		long delay = pipeline.drain();
+
+		assertTrue(delay > 0 && delay <= 60000);
+		assertTrue(System.currentTimeMillis() - start < 1000);
+		assertEquals(1, channel.written.size());
+		assertEquals(1, pipeline.getOutstandingCount());
+		assertTrue(pipeline.getFailures().isEmpty());
+	}
+
+	/**
+	 * Test CommandPipeline#drain with a read timeout while a command is executing
+	 * Expect only the command without ACK to fail, the ACKed command to keep waiting for its completion
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTimeoutFailsOnlyUnacknowledgedCommands() {
+		FakeChannel channel = new FakeChannel();
+		channel.replies.add(reply(1, 0x41));
+		channel.replies.add(new byte[0]);
+		channel.replies.add(reply(1, 0x51));
+		List<String> completed = new ArrayList<>();
+
+		CommandPipeline pipeline = createPipeline(channel);
+		pipeline.submit("First", command(1), () -> completed.add("First"));
+		pipeline.submit("Second", command(2), () -> completed.add("Second"));
+		drain(pipeline);
+
+		assertEquals(1, pipeline.getFailures().size());
+		assertTrue(pipeline.getFailures().get(0).startsWith("Second: no ACK"));
+		assertEquals(Collections.singletonList("First"), completed);
+	}
+
+	/**
+	 * Test CommandPipeline#drain with a late COMPLETION of another command on the socket of a pending command
+	 * Expect the late reply to be ignored and the pending command to complete on its own COMPLETION only
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testLateReplyOnSameSocketIgnored() {
+		FakeChannel channel = new FakeChannel();
+		channel.replies.add(reply(1, 0x41));
+		channel.replies.add(reply(7, 0x51));
+		channel.replies.add(reply(7, 0x61));
+		channel.replies.add(reply(1, 0x51));
+		List<String> completed = new ArrayList<>();
+
+		CommandPipeline pipeline = createPipeline(channel);
+		pipeline.submit("First", command(1), () -> completed.add("First"));
+		drain(pipeline);
+
+		assertEquals(4, channel.readCount);
+		assertTrue(pipeline.getFailures().isEmpty());
+		assertEquals(Collections.singletonList("First"), completed);
+	}
+
+	private static void drain(CommandPipeline pipeline) {
+		long delay;
+		while ((delay = pipeline.drain()) > 0) {
+			try {
+				Thread.sleep(delay);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private static CommandPipeline createPipeline(PacketChannel channel) {
+		return new CommandPipeline(channel, () -> 100, 2, 4, 3, 1, 0, 60000);
+	}
+
+	private static byte[] command(int sequenceNumber) {
+		byte[] sequence = LumenVCTR60AUtils.convertIntToByteArray(sequenceNumber);
+		return new byte[] { 0x01, 0x00, 0x00, 0x06, sequence[0], sequence[1], sequence[2], sequence[3], (byte) 0x81, 0x01, 0x04, 0x00, 0x02, (byte) 0xFF };
+	}
+
+	private static byte[] reply(int sequenceNumber, int status) {
+		byte[] sequence = LumenVCTR60AUtils.convertIntToByteArray(sequenceNumber);
+		return new byte[] { 0x01, 0x11, 0x00, 0x03, sequence[0], sequence[1], sequence[2], sequence[3], (byte) 0x90, (byte) status, (byte) 0xFF };
+	}
+
+	private static class FakeChannel implements PacketChannel {
+		private final List<byte[]> written = new ArrayList<>();
+		private final Deque<byte[]> replies = new ArrayDeque<>();
+		private int readCount;
+
+		@Override
+		public void write(byte[] packet) {
+			written.add(packet);
+		}
+
+		@Override
+		public byte[] read() throws IOException {
+			readCount++;
+			byte[] reply = replies.poll();
+			// An empty packet plays a read timeout before the next replies
+			if (reply == null || reply.length == 0) {
+				throw new SocketTimeoutException("Receive timed out");
+			}
+			return reply;
+		}
+	}
+}
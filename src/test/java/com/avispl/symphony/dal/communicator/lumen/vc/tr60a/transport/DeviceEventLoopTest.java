@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for DeviceEventLoop
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class DeviceEventLoopTest {
+
+	/**
+	 * Test DeviceEventLoop#submit while the loop is busy
+	 * Expect queued controls to run before queued inquiries, each priority in submission order
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testControlsRunBeforeInquiries() throws Exception {
+		DeviceEventLoop eventLoop = new DeviceEventLoop("test");
+		CountDownLatch busy = new CountDownLatch(1);
+		List<String> order = new CopyOnWriteArrayList<>();
+		try {
+			eventLoop.submit(DeviceEventLoop.Priority.INQUIRY, () -> {
+				busy.await();
+				return null;
+			});
+			eventLoop.submit(DeviceEventLoop.Priority.INQUIRY, () -> order.add("Inquiry1"));
+			eventLoop.submit(DeviceEventLoop.Priority.CONTROL, () -> order.add("Control1"));
+			eventLoop.submit(DeviceEventLoop.Priority.INQUIRY, () -> order.add("Inquiry2"));
+			CompletableFuture<Boolean> last = eventLoop.submit(DeviceEventLoop.Priority.CONTROL, () -> order.add("Control2"));
+			busy.countDown();
+			eventLoop.call(DeviceEventLoop.Priority.INQUIRY, () -> null);
+
+			assertTrue(last.isDone());
+			assertEquals(Arrays.asList("Control1", "Control2", "Inquiry1", "Inquiry2"), order);
+		} finally {
+			eventLoop.shutdown();
+		}
+	}
+
+	/**
+	 * Test DeviceEventLoop#call with a failing request, and from the event loop thread
+	 * Expect the failure to be rethrown as is, and the nested request to run without deadlock
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testCall() throws Exception {
+		DeviceEventLoop eventLoop = new DeviceEventLoop("test");
+		try {
+			try {
+				eventLoop.call(DeviceEventLoop.Priority.INQUIRY, () -> {
+					throw new IOException("Receive timed out");
+				});
+				fail("Expected IOException");
+			} catch (IOException e) {
+				assertEquals("Receive timed out", e.getMessage());
+			}
+			int result = eventLoop.call(DeviceEventLoop.Priority.INQUIRY, () -> eventLoop.call(DeviceEventLoop.Priority.CONTROL, () -> 42));
+			assertEquals(42, result);
+		} finally {
+			eventLoop.shutdown();
+		}
+	}
+
+	/**
+	 * Test DeviceEventLoop#shutdown while a request ignoring the interrupt is running, then DeviceEventLoop#submit
+	 * Expect the request submitted after the restart to run only once the request of the stopped thread is done, on another thread
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testRestartWaitsForStoppedThread() throws Exception {
+		DeviceEventLoop eventLoop = new DeviceEventLoop("test");
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean stoppedRequestDone = new AtomicBoolean();
+		try {
+			CompletableFuture<Thread> stopped = eventLoop.submit(DeviceEventLoop.Priority.INQUIRY, () -> {
+				started.countDown();
+				while (release.getCount() > 0) {
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						// The request keeps running like a blocking socket read would
+					}
+				}
+				stoppedRequestDone.set(true);
+				return Thread.currentThread();
+			});
+			started.await();
+			eventLoop.shutdown();
+
+			CompletableFuture<Boolean> restarted = eventLoop.submit(DeviceEventLoop.Priority.INQUIRY, stoppedRequestDone::get);
+			Thread.sleep(100);
+			assertFalse(restarted.isDone());
+
+			release.countDown();
+			assertTrue(restarted.get(5, TimeUnit.SECONDS));
+			Thread stoppedThread = stopped.get(5, TimeUnit.SECONDS);
+			assertFalse(eventLoop.call(DeviceEventLoop.Priority.INQUIRY, () -> Thread.currentThread() == stoppedThread));
+		} finally {
+			eventLoop.shutdown();
+		}
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for InFlightRequests
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class InFlightRequestsTest {
+
+	/**
+	 * Test InFlightRequests#register over capacity
+	 * Expect the oldest sequence number to be evicted
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testEvictOldest() {
+		InFlightRequests inFlightRequests = new InFlightRequests(2);
+		inFlightRequests.register(1);
+		inFlightRequests.register(2);
+		inFlightRequests.register(3);
+
+		assertEquals(2, inFlightRequests.size());
+		assertFalse(inFlightRequests.contains(1));
+		assertTrue(inFlightRequests.contains(3));
+	}
+
+	/**
+	 * Test InFlightRequests#complete
+	 * Expect the completed sequence number to be removed
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testComplete() {
+		InFlightRequests inFlightRequests = new InFlightRequests(4);
+		inFlightRequests.register(7);
+		inFlightRequests.complete(7);
+
+		assertFalse(inFlightRequests.contains(7));
+		assertEquals(0, inFlightRequests.size());
+	}
+}
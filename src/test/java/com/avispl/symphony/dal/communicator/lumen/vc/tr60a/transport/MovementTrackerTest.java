@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.LumenVCTR60AUtils;
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for MovementTracker
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class MovementTrackerTest {
+
+	/**
+	 * Test MovementTracker#onReply
+	 * Expect each socket to stay busy until the completion of its command, replies of other commands being ignored
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testCompletionFreesSocket() throws Exception {
+		MovementTracker tracker = new MovementTracker();
+		CompletableFuture<byte[]> preset = tracker.onAck("Preset", 7, 1, 0);
+		CompletableFuture<byte[]> zoom = tracker.onAck("ZoomPosition", 8, 2, 0);
+		assertEquals(Arrays.asList(1, 2), tracker.getSockets());
+		assertEquals("Preset", tracker.getName(1));
+		assertSame(zoom, tracker.getCompletion(8));
+
+		assertFalse(tracker.onReply(reply(6, 0x51)));
+		assertFalse(tracker.onReply(reply(7, 0x41)));
+		assertFalse(preset.isDone());
+
+		byte[] completion = reply(7, 0x51);
+		assertTrue(tracker.onReply(completion));
+		assertSame(completion, preset.get());
+		assertEquals(Collections.singletonList(2), tracker.getSockets());
+		assertNull(tracker.getName(1));
+		assertFalse(zoom.isDone());
+	}
+
+	/**
+	 * Test MovementTracker#cancel and MovementTracker#expire
+	 * Expect a cancelled or expired movement to free its socket and fail its completion
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testCancelAndExpire() {
+		MovementTracker tracker = new MovementTracker();
+		CompletableFuture<byte[]> drive = tracker.onAck("PanTiltDrive", 3, 1, 0);
+		tracker.cancel(1);
+		assertTrue(drive.isCompletedExceptionally());
+		assertFalse(tracker.isPending());
+		assertFalse(tracker.onReply(reply(3, 0x61)));
+
+		CompletableFuture<byte[]> preset = tracker.onAck("Preset", 4, 1, 1000);
+		assertEquals(0, tracker.expire(5000, 30000));
+		assertEquals(1, tracker.expire(31000, 30000));
+		assertTrue(preset.isCompletedExceptionally());
+		assertFalse(tracker.isPending());
+	}
+
+	private static byte[] reply(int sequenceNumber, int status) {
+		byte[] sequence = LumenVCTR60AUtils.convertIntToByteArray(sequenceNumber);
+		return new byte[] { 0x01, 0x11, 0x00, 0x03, sequence[0], sequence[1], sequence[2], sequence[3], (byte) 0x90, (byte) status, (byte) 0xFF };
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for RttEstimator
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class RttEstimatorTest {
+
+	/**
+	 * Test RttEstimator#getTimeout without samples
+	 * Expect the upper bound to be used
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTimeoutWithoutSample() {
+		RttEstimator estimator = new RttEstimator(200, 4000);
+		assertEquals(4000, estimator.getTimeout());
+		assertEquals(-1, estimator.getSmoothedRtt());
+	}
+
+	/**
+	 * Test RttEstimator#addSample
+	 * Expect SRTT + 4 * RTTVAR, clamped to the bounds
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testTimeoutFromSamples() {
+		RttEstimator estimator = new RttEstimator(200, 4000);
+		estimator.addSample(100);
+		// SRTT = 100, RTTVAR = 50
+		assertEquals(300, estimator.getTimeout());
+
+		estimator.addSample(100);
+		// RTTVAR = 37.5 -> RTO = 250
+		assertEquals(250, estimator.getTimeout());
+
+		for (int i = 0; i < 50; i++) {
+			estimator.addSample(10);
+		}
+		assertEquals(200, estimator.getTimeout());
+	}
+
+	/**
+	 * Test RttEstimator#onTimeout
+	 * Expect the timeout to double up to the upper bound
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testBackOffOnTimeout() {
+		RttEstimator estimator = new RttEstimator(200, 1000);
+		estimator.addSample(100);
+		estimator.onTimeout();
+		assertEquals(600, estimator.getTimeout());
+		estimator.onTimeout();
+		assertEquals(1000, estimator.getTimeout());
+	}
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2025 AVI-SPL Inc. All Rights Reserved.
+ */
+package com.avispl.symphony.dal.communicator.lumen.vc.tr60a.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import com.avispl.symphony.dal.communicator.lumen.vc.tr60a.interfaces.MockTest;
+
+/**
+ * Unit test for SequenceGenerator
+ *
+ * @author Harry
+ * @version 1.0
+ * @since 1.0
+ */
+public class SequenceGeneratorTest {
+
+	/**
+	 * Test SequenceGenerator#next
+	 * Expect a sequence number still in flight to be skipped
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testSkipInFlightSequenceNumber() {
+		InFlightRequests inFlightRequests = new InFlightRequests(4);
+		SequenceGenerator sequenceGenerator = new SequenceGenerator(inFlightRequests);
+		assertEquals(0, sequenceGenerator.next());
+		assertEquals(1, sequenceGenerator.next());
+
+		inFlightRequests.complete(0);
+		sequenceGenerator.reset();
+		inFlightRequests.register(1);
+		assertEquals(0, sequenceGenerator.next());
+		assertEquals(2, sequenceGenerator.next());
+		assertTrue(inFlightRequests.contains(2));
+	}
+
+	/**
+	 * Test SequenceGenerator#next after 0xFFFFFFFF
+	 * Expect the unsigned 32 bits sequence number to wrap to 0
+	 */
+	@Test
+	@Category(MockTest.class)
+	public void testWraparound() {
+		SequenceGenerator sequenceGenerator = new SequenceGenerator(new InFlightRequests(4), 0xFFFFFFFE);
+		assertEquals(0xFFFFFFFE, sequenceGenerator.next());
+		assertEquals(0xFFFFFFFF, sequenceGenerator.next());
+		assertEquals(0, sequenceGenerator.next());
+	}
+}